@@ -0,0 +1,64 @@
+package com.mint.habitus.benchmark;
+
+import com.mint.habitus.domain.recommendation.domain.KnapsackItem;
+import com.mint.habitus.domain.recommendation.domain.KnapsackTable;
+import com.mint.habitus.domain.recommendation.domain.MeetInTheMiddleSolver;
+import com.mint.habitus.domain.recommendation.domain.SelectedActivity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * DP(O(n × W))와 Meet-in-the-middle(O(2^(n/2) · n))의 교차점 측정
+ * timeScale 60은 분 대신 초 단위 시간을 가정한다 (같은 아이템, W와 소요 시간 60배).
+ * 두 방식의 비용 비율이 MeetInTheMiddleSolver.COST_PER_COMBINATION의 근거다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeetInTheMiddleBenchmark {
+
+    @Param({"16", "24", "32", "40"})
+    private int itemCount;
+
+    @Param({"1", "60"})
+    private int timeScale;
+
+    private List<KnapsackItem> items;
+    private int capacity;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        items = new ArrayList<>(itemCount);
+        int totalDuration = 0;
+
+        for (int i = 0; i < itemCount; i++) {
+            int duration = random.nextInt(1, 13) * 15 * timeScale;
+            items.add(new KnapsackItem(duration, random.nextInt(1, 40), List.<SelectedActivity>of()));
+            totalDuration += duration;
+        }
+
+        // 절반 정도가 선택되는 용량
+        capacity = totalDuration / 2;
+    }
+
+    @Benchmark
+    public int dp() {
+        return KnapsackTable.solve(items, List.of(), capacity).bestValue(capacity);
+    }
+
+    @Benchmark
+    public int meetInTheMiddle() {
+        return MeetInTheMiddleSolver.solve(items, List.of(), capacity).size();
+    }
+}
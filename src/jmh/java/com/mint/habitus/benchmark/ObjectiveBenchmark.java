@@ -0,0 +1,77 @@
+package com.mint.habitus.benchmark;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.priority.domain.Priority;
+import com.mint.habitus.domain.recommendation.domain.BalancedActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.BalancedRecommendation;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 선형 목적과 균형 목적(체감 수익, 반복 선형 DP)의 1주일 용량 응답 시간 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectiveBenchmark {
+
+    @Param({"100", "500"})
+    private int catalogSize;
+
+    private final OptimalActivityFinder optimalActivityFinder = new OptimalActivityFinder();
+    private final BalancedActivityFinder balancedActivityFinder = new BalancedActivityFinder(optimalActivityFinder);
+
+    private List<Activity> activities;
+    private Priority priority;
+    private TimeConstraint timeConstraint;
+
+    @Setup
+    public void setUp() {
+        activities = syntheticCatalog(catalogSize, 42L);
+        priority = Priority.fromCode("3211211");
+        timeConstraint = TimeConstraint.fullWeek();
+    }
+
+    @Benchmark
+    public RecommendationResult linear() {
+        return optimalActivityFinder.find(activities, priority, timeConstraint);
+    }
+
+    @Benchmark
+    public BalancedRecommendation balanced() {
+        return balancedActivityFinder.find(activities, priority, timeConstraint);
+    }
+
+    static List<Activity> syntheticCatalog(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Activity> activities = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+            for (CapitalType type : CapitalType.values()) {
+                effects.put(type, random.nextInt(3) == 0 ? random.nextInt(1, 6) : 0);
+            }
+            activities.add(Activity.of((long) i, "활동 " + i, null, random.nextInt(1, 13) * 15, 0,
+                    ActivityEffects.of(effects)));
+        }
+
+        return activities;
+    }
+}
@@ -0,0 +1,103 @@
+package com.mint.habitus.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse.RecommendedActivity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.presentation.recommendation.encoding.RecommendationCborHttpMessageConverter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 추천 응답 직렬화 시간 비교 (JSON vs 자본 배열 CBOR)
+ * 페이로드 크기는 Setup에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEncodingBenchmark {
+
+    @Param({"10", "50"})
+    private int activityCount;
+
+    private final ObjectMapper json = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper cbor = RecommendationCborHttpMessageConverter.compactMapper();
+
+    private RecommendationResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        response = syntheticResponse(activityCount);
+
+        int jsonBytes = json.writeValueAsBytes(response).length;
+        int cborBytes = cbor.writeValueAsBytes(response).length;
+        System.out.printf("%n[payload] activities=%d json=%dB cbor=%dB (%.1f%%)%n",
+                activityCount, jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return json.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return cbor.writeValueAsBytes(response);
+    }
+
+    private static RecommendationResponse syntheticResponse(int count) {
+        SplittableRandom random = new SplittableRandom(42L);
+        List<RecommendedActivity> activities = new ArrayList<>(count);
+        Map<String, Integer> total = new LinkedHashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            Map<String, Integer> original = new LinkedHashMap<>();
+            Map<String, Integer> weighted = new LinkedHashMap<>();
+            for (CapitalType type : CapitalType.values()) {
+                if (random.nextInt(3) == 0) {
+                    int effect = random.nextInt(1, 6);
+                    original.put(type.name(), effect);
+                    weighted.put(type.name(), effect * random.nextInt(1, 4));
+                    total.merge(type.name(), effect, Integer::sum);
+                }
+            }
+
+            activities.add(RecommendedActivity.builder()
+                    .id((long) i)
+                    .name("활동 " + i)
+                    .duration(random.nextInt(1, 13) * 15)
+                    .calculatedValue(weighted.values().stream().mapToInt(Integer::intValue).sum())
+                    .originalEffects(original)
+                    .weightedEffects(weighted)
+                    .build());
+        }
+
+        return RecommendationResponse.builder()
+                .totalValue(activities.stream().mapToInt(RecommendedActivity::getCalculatedValue).sum())
+                .totalMinutes(activities.stream().mapToInt(RecommendedActivity::getDuration).sum())
+                .remainingMinutes(0)
+                .activityCount(count)
+                .timeUtilizationRate(100.0)
+                .totalCapitalGain(total)
+                .selectedActivities(activities)
+                .build();
+    }
+}
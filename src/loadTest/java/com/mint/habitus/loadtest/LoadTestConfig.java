@@ -0,0 +1,28 @@
+package com.mint.habitus.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Dloadtest.* 시스템 프로퍼티)
+ */
+record LoadTestConfig(
+        int catalogSize,
+        double ratePerSecond,
+        Duration duration,
+        Duration warmup,
+        long seed,
+        Path reportDir
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.catalogSize", 500),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                Long.getLong("loadtest.seed", 42L),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"))
+        );
+    }
+}
@@ -0,0 +1,249 @@
+package com.mint.habitus.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 추천 API 종단 간 부하 테스트
+ * H2 위에 앱을 띄우고 합성 activity_templates를 넣은 뒤, 응답과 무관하게 정해진 도착률로
+ * 요청을 보내는 open-model 트래픽을 발생시킨다. 지연은 예정된 발송 시각부터 측정하여
+ * coordinated omission을 피한다. 결과는 빌드 간 비교 가능한 JSON으로 기록한다.
+ */
+public final class RecommendationLoadTest {
+
+    private static final String ENDPOINT = "/api/activities/recommendation";
+
+    private RecommendationLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = startApplication(config)) {
+            seedCatalog(context.getBean(ActivityRepository.class), config);
+
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + ENDPOINT);
+            TrafficModel traffic = new TrafficModel(config.seed());
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder()
+                        .executor(executor)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+
+                System.out.printf("워밍업 %ds ...%n", config.warmup().toSeconds());
+                drive(client, uri, traffic, config.ratePerSecond(), config.warmup());
+
+                System.out.printf("측정 %ds @ %.0f req/s ...%n", config.duration().toSeconds(), config.ratePerSecond());
+                JvmSnapshot before = JvmSnapshot.capture();
+                RunResult result = drive(client, uri, traffic, config.ratePerSecond(), config.duration());
+                JvmSnapshot after = JvmSnapshot.capture();
+
+                writeReport(config, result, before, after);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+        return new SpringApplicationBuilder(HabitusApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "habitus.catalog.snapshot.path=" + config.reportDir().resolve("catalog-snapshot.bin"),
+                        "logging.level.com.mint.habitus=WARN"
+                )
+                .run();
+    }
+
+    /**
+     * 실제 템플릿처럼 시간/효과가 겹치는 합성 활동 생성
+     */
+    private static void seedCatalog(ActivityRepository repository, LoadTestConfig config) {
+        SplittableRandom random = new SplittableRandom(config.seed());
+
+        for (int i = 0; i < config.catalogSize(); i++) {
+            Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+            for (CapitalType type : CapitalType.values()) {
+                effects.put(type, random.nextInt(3) == 0 ? random.nextInt(1, 6) : 0);
+            }
+
+            repository.save(Activity.of(
+                    null,
+                    "활동 " + i,
+                    "부하 테스트용 합성 활동",
+                    random.nextInt(1, 13) * 15,
+                    0,
+                    ActivityEffects.of(effects)
+            ));
+        }
+
+        System.out.printf("카탈로그 %d개 생성 (버전 %d)%n",
+                config.catalogSize(), repository.findCatalog().getVersion());
+    }
+
+    private static RunResult drive(
+            HttpClient client,
+            URI uri,
+            TrafficModel traffic,
+            double ratePerSecond,
+            Duration duration
+    ) throws InterruptedException {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long nextSend = start;
+        long userId = 0;
+
+        while (nextSend < end) {
+            long wait = nextSend - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            long intendedStart = nextSend;
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(traffic.nextRequestBody(++userId)))
+                    .build();
+
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        } else {
+                            latencies.add(System.nanoTime() - intendedStart);
+                        }
+                    }));
+
+            nextSend += traffic.nextInterArrivalNanos(ratePerSecond);
+        }
+
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.out.println("일부 요청이 시간 내에 끝나지 않음: " + e.getMessage());
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+
+        return new RunResult(pending.size(), sorted, errors.get(), elapsed);
+    }
+
+    private static void writeReport(LoadTestConfig config, RunResult result, JvmSnapshot before, JvmSnapshot after)
+            throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("catalogSize", config.catalogSize());
+        settings.put("targetRatePerSecond", config.ratePerSecond());
+        settings.put("durationSeconds", config.duration().toSeconds());
+        settings.put("seed", config.seed());
+        report.put("config", settings);
+
+        Map<String, Object> requests = new LinkedHashMap<>();
+        requests.put("sent", result.sent());
+        requests.put("succeeded", result.latencies().length);
+        requests.put("errors", result.errors());
+        requests.put("throughputPerSecond", result.latencies().length / (result.elapsedNanos() / 1e9));
+        report.put("requests", requests);
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", percentileMillis(result.latencies(), 0.50));
+        latency.put("p99", percentileMillis(result.latencies(), 0.99));
+        latency.put("p999", percentileMillis(result.latencies(), 0.999));
+        latency.put("max", percentileMillis(result.latencies(), 1.0));
+        report.put("latencyMillis", latency);
+
+        // 부하 발생기와 앱이 같은 JVM에서 실행되므로 두 쪽 모두 포함된 수치
+        Map<String, Object> jvm = new LinkedHashMap<>();
+        jvm.put("gcCount", after.gcCount() - before.gcCount());
+        jvm.put("gcTimeMillis", after.gcTimeMillis() - before.gcTimeMillis());
+        jvm.put("heapPeakUsedBytes", after.heapPeakUsedBytes());
+        jvm.put("heapUsedAfterBytes", after.heapUsedBytes());
+        report.put("jvm", jvm);
+
+        Files.createDirectories(config.reportDir());
+        Path latest = config.reportDir().resolve("recommendation-latest.json");
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(latest.toFile(), report);
+        Files.copy(latest, config.reportDir().resolve("recommendation-" + System.currentTimeMillis() + ".json"));
+
+        System.out.println(mapper.writeValueAsString(report));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private record RunResult(int sent, long[] latencies, long errors, long elapsedNanos) {
+    }
+
+    private record JvmSnapshot(long gcCount, long gcTimeMillis, long heapUsedBytes, long heapPeakUsedBytes) {
+
+        static JvmSnapshot capture() {
+            long count = 0;
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                time += Math.max(0, gc.getCollectionTime());
+            }
+
+            long used = 0;
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    used += pool.getUsage().getUsed();
+                    peak += pool.getPeakUsage().getUsed();
+                    pool.resetPeakUsage();
+                }
+            }
+
+            return new JvmSnapshot(count, time, used, peak);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.mint.habitus.loadtest;
+
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 요청 분포
+ * - 30%는 기본 우선순위(빈 맵), 나머지는 자본별 LOW 60% / MEDIUM 25% / HIGH 15%
+ * - 가용 시간은 30분 단위, 주 5~40시간 사이에서 중앙값 약 12시간
+ */
+final class TrafficModel {
+
+    private final SplittableRandom random;
+
+    TrafficModel(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    synchronized String nextRequestBody(long userId) {
+        StringBuilder body = new StringBuilder(160)
+                .append("{\"userId\":").append(userId)
+                .append(",\"availableMinutes\":").append(nextMinutes())
+                .append(",\"priorities\":{");
+
+        boolean first = true;
+        for (Map.Entry<String, Integer> entry : nextPriorities().entrySet()) {
+            if (!first) {
+                body.append(',');
+            }
+            body.append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+            first = false;
+        }
+
+        return body.append("}}").toString();
+    }
+
+    /**
+     * 포아송 도착 과정의 다음 요청까지 간격 (지수 분포)
+     */
+    synchronized long nextInterArrivalNanos(double ratePerSecond) {
+        return (long) (-Math.log(1.0 - random.nextDouble()) / ratePerSecond * 1_000_000_000L);
+    }
+
+    private int nextMinutes() {
+        // 로그 정규 분포 근사 후 30분 단위로 절삭
+        double hours = Math.exp(Math.log(12) + 0.5 * random.nextGaussian());
+        int minutes = (int) Math.round(Math.max(5, Math.min(40, hours)) * 2) * 30;
+        return Math.min(minutes, 10_080);
+    }
+
+    private Map<String, Integer> nextPriorities() {
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        if (random.nextInt(10) < 3) {
+            return priorities;
+        }
+
+        for (CapitalType type : CapitalType.values()) {
+            int roll = random.nextInt(100);
+            priorities.put(type.name(), roll < 60 ? 1 : roll < 85 ? 2 : 3);
+        }
+        return priorities;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mint.habitus.application.activity;
+
+import com.mint.habitus.application.activity.dto.ActivityBrowseResponse;
+import com.mint.habitus.application.activity.dto.CatalogActivityResponse;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityBrowseCondition;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 전역 카탈로그 탐색 Application Service
+ * 커서는 "정렬 값.id" 형식이며, 같은 필터 조건으로만 이어서 조회할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityBrowseService {
+
+    private final ActivityRepository activityRepository;
+
+    public ActivityBrowseResponse browse(
+            Integer minDuration,
+            Integer maxDuration,
+            CapitalType capital,
+            Integer minEffect,
+            String cursor,
+            int limit
+    ) {
+        Integer cursorValue = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.indexOf('.');
+            try {
+                cursorValue = Integer.parseInt(cursor.substring(0, separator));
+                cursorId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+
+        ActivityBrowseCondition condition = ActivityBrowseCondition.of(
+                minDuration, maxDuration, capital, minEffect, cursorValue, cursorId, limit);
+        List<Activity> found = activityRepository.browse(condition);
+
+        boolean hasNext = found.size() > limit;
+        List<Activity> page = hasNext ? found.subList(0, limit) : found;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Activity last = page.get(page.size() - 1);
+            nextCursor = condition.sortValueOf(last) + "." + last.getId();
+        }
+
+        return ActivityBrowseResponse.builder()
+                .activities(page.stream()
+                        .map(CatalogActivityResponse::from)
+                        .toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.mint.habitus.application.activity;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 활동 템플릿 CSV를 한 줄씩 읽어 Activity로 변환하는 Iterator
+ * 헤더: name,description,durationMinutes,cost,groupCode,PHYSICAL,...,ECONOMIC (name, durationMinutes 외에는 선택)
+ * 검증에 실패한 행은 건너뛰고 오류로 기록한다. (문자열 길이는 activity_templates 컬럼 길이 기준)
+ */
+class ActivityCsvReader implements Iterator<Activity> {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    static final int MAX_NAME_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 500;
+    static final int MAX_GROUP_CODE_LENGTH = 50;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<RowError> errors = new ArrayList<>();
+
+    private int lineNumber;
+    private int rejectedCount;
+    private Activity next;
+    private boolean finished;
+
+    record RowError(int line, String message) {
+    }
+
+    ActivityCsvReader(BufferedReader reader) {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !finished) {
+            String line = readLine();
+            if (line == null) {
+                finished = true;
+            } else if (!line.isBlank()) {
+                next = parse(line);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Activity next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Activity current = next;
+        next = null;
+        return current;
+    }
+
+    int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    List<RowError> getErrors() {
+        return errors;
+    }
+
+    private void readHeader() {
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        List<String> names = split(header.strip().replace("\uFEFF", ""));
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).strip(), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("durationMinutes")) {
+            throw new IllegalArgumentException("CSV 헤더에 name, durationMinutes 컬럼이 필요합니다: " + header);
+        }
+    }
+
+    private Activity parse(String line) {
+        try {
+            List<String> fields = split(line);
+
+            Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+            for (CapitalType type : CapitalType.values()) {
+                effects.put(type, intOrDefault(fields, type.name(), 0));
+            }
+
+            Activity activity = Activity.of(
+                    null,
+                    text(fields, "name", MAX_NAME_LENGTH),
+                    text(fields, "description", MAX_DESCRIPTION_LENGTH),
+                    intOrDefault(fields, "durationMinutes", 0),
+                    intOrDefault(fields, "cost", 0),
+                    ActivityEffects.of(effects)
+            );
+
+            String groupCode = text(fields, "groupCode", MAX_GROUP_CODE_LENGTH);
+            return groupCode == null ? activity : activity.inGroup(groupCode);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            rejectedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(lineNumber, e.getMessage()));
+            }
+            return null;
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String text(List<String> fields, String column, int maxLength) {
+        String value = field(fields, column);
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(
+                    column + "은(는) 최대 " + maxLength + "자입니다: " + value.length() + "자");
+        }
+        return value;
+    }
+
+    private int intOrDefault(List<String> fields, String column, int defaultValue) {
+        String value = field(fields, column);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 쉼표 구분, 큰따옴표로 감싼 필드와 "" 이스케이프 지원 (필드 내 줄바꿈은 미지원)
+     */
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
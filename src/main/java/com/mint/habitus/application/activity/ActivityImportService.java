@@ -0,0 +1,48 @@
+package com.mint.habitus.application.activity;
+
+import com.mint.habitus.application.activity.dto.ActivityImportResponse;
+import com.mint.habitus.application.activity.dto.ActivityImportResponse.RowError;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파트너 피드의 활동 템플릿 일괄 등록 Application Service
+ * 파일 전체를 메모리에 올리지 않고 읽는 대로 배치 단위로 기록하며,
+ * 가져오기 전체가 한 트랜잭션이므로 카탈로그 버전 증가와 스냅샷 재생성은 한 번만 일어난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityImportService {
+
+    private final ActivityRepository activityRepository;
+
+    @Transactional
+    public ActivityImportResponse importCsv(InputStream csv) {
+        long start = System.nanoTime();
+
+        ActivityCsvReader reader = new ActivityCsvReader(
+                new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        int imported = activityRepository.saveAll(reader);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("활동 템플릿 일괄 등록 - 등록: {}건, 거부: {}건, {}ms",
+                imported, reader.getRejectedCount(), elapsedMillis);
+
+        return ActivityImportResponse.builder()
+                .importedCount(imported)
+                .rejectedCount(reader.getRejectedCount())
+                .elapsedMillis(elapsedMillis)
+                .errors(reader.getErrors().stream()
+                        .map(error -> new RowError(error.line(), error.message()))
+                        .toList())
+                .build();
+    }
+}
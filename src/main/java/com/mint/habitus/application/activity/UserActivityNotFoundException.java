@@ -0,0 +1,12 @@
+package com.mint.habitus.application.activity;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class UserActivityNotFoundException extends RuntimeException {
+
+    public UserActivityNotFoundException(Long userId, Long activityId) {
+        super("사용자 활동을 찾을 수 없습니다 - userId: " + userId + ", activityId: " + activityId);
+    }
+}
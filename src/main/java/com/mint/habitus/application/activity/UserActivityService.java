@@ -0,0 +1,76 @@
+package com.mint.habitus.application.activity;
+
+import com.mint.habitus.application.activity.dto.UserActivityRequest;
+import com.mint.habitus.application.activity.dto.UserActivityResponse;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.activity.domain.UserActivitiesChangedEvent;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 전용 활동 관리 Application Service
+ * 전역 카탈로그 버전을 바꾸지 않으므로 캐시된 전역 DP 상태가 그대로 유지된다.
+ * 대신 변경 이벤트를 발행하여 해당 사용자의 주간 계획 스트림만 다시 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserActivityService {
+
+    private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<UserActivityResponse> findActivities(Long userId) {
+        return activityRepository.findByOwnerId(userId).stream()
+                .map(UserActivityResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    public UserActivityResponse addActivity(Long userId, UserActivityRequest request) {
+        Activity activity = Activity.ofUser(
+                null,
+                userId,
+                request.getName(),
+                request.getDescription(),
+                request.getDurationMinutes(),
+                request.getCost() == null ? 0 : request.getCost(),
+                toEffects(request.getEffects())
+        );
+
+        Activity saved = activityRepository.save(activity);
+        eventPublisher.publishEvent(new UserActivitiesChangedEvent(userId));
+        return UserActivityResponse.from(saved);
+    }
+
+    @Transactional
+    public void removeActivity(Long userId, Long activityId) {
+        Activity activity = activityRepository.findById(activityId)
+                .filter(found -> userId.equals(found.getOwnerId()))
+                .orElseThrow(() -> new UserActivityNotFoundException(userId, activityId));
+
+        activityRepository.delete(activity.getId());
+        eventPublisher.publishEvent(new UserActivitiesChangedEvent(userId));
+    }
+
+    private ActivityEffects toEffects(Map<String, Integer> effectMap) {
+        Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+        for (CapitalType type : CapitalType.values()) {
+            effects.put(type, 0);
+        }
+
+        if (effectMap != null) {
+            effectMap.forEach((key, effect) -> effects.put(CapitalType.valueOf(key), effect));
+        }
+
+        return ActivityEffects.of(effects);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mint.habitus.application.activity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityBrowseResponse {
+
+    private List<CatalogActivityResponse> activities;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.mint.habitus.application.activity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityImportResponse {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer line;
+        private String message;
+    }
+
+    private Integer importedCount;
+    private Integer rejectedCount;
+    private Long elapsedMillis;
+
+    // 최대 100건
+    private List<RowError> errors;
+}
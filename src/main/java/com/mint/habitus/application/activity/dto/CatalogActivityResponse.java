@@ -0,0 +1,40 @@
+package com.mint.habitus.application.activity.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mint.habitus.domain.activity.domain.Activity;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogActivityResponse {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Integer durationMinutes;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String groupCode;
+    private Map<String, Integer> effects;
+
+    public static CatalogActivityResponse from(Activity activity) {
+        Map<String, Integer> effects = new LinkedHashMap<>();
+        activity.getActiveEffects().forEach((type, effect) -> effects.put(type.name(), effect));
+
+        return CatalogActivityResponse.builder()
+                .id(activity.getId())
+                .name(activity.getName())
+                .description(activity.getDescription())
+                .durationMinutes(activity.getDurationMinutes())
+                .groupCode(activity.getGroupCode())
+                .effects(effects)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.mint.habitus.application.activity.dto;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserActivityResponse {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Integer durationMinutes;
+    private Map<String, Integer> effects;
+
+    public static UserActivityResponse from(Activity activity) {
+        Map<String, Integer> effects = new LinkedHashMap<>();
+        activity.getActiveEffects().forEach((type, effect) -> effects.put(type.name(), effect));
+
+        return UserActivityResponse.builder()
+                .id(activity.getId())
+                .name(activity.getName())
+                .description(activity.getDescription())
+                .durationMinutes(activity.getDurationMinutes())
+                .effects(effects)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.mint.habitus.application.history;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.history")
+public class RecommendationHistoryProperties {
+
+    private boolean enabled = true;
+
+    // 버퍼가 가득 차면 offerTimeout 동안 대기 후 버림 (0이면 즉시 버림)
+    private int queueCapacity = 10_000;
+    private Duration offerTimeout = Duration.ZERO;
+
+    private int batchSize = 200;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,141 @@
+package com.mint.habitus.application.history;
+
+import com.mint.habitus.domain.history.domain.RecommendationHistory;
+import com.mint.habitus.domain.history.domain.RecommendationHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 이력 Write-behind 기록기
+ * 요청 스레드는 제한된 큐에 넣기만 하고, 전용 스레드가 배치 단위로 저장한다.
+ * 큐가 가득 차면 요청 지연을 늘리지 않도록 이력을 버리고 지표로 남긴다.
+ */
+@Slf4j
+@Component
+public class RecommendationHistoryRecorder {
+
+    private final RecommendationHistoryRepository historyRepository;
+    private final RecommendationHistoryProperties properties;
+    private final BlockingQueue<RecommendationHistory> queue;
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public RecommendationHistoryRecorder(
+            RecommendationHistoryRepository historyRepository,
+            RecommendationHistoryProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.historyRepository = historyRepository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.enqueued = meterRegistry.counter("habitus.recommendation.history.enqueued");
+        this.dropped = meterRegistry.counter("habitus.recommendation.history.dropped");
+        this.written = meterRegistry.counter("habitus.recommendation.history.written");
+        this.failed = meterRegistry.counter("habitus.recommendation.history.failed");
+        meterRegistry.gauge("habitus.recommendation.history.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("recommendation-history-flusher")
+                .daemon(true)
+                .start(this::flushLoop);
+    }
+
+    /**
+     * 이력을 큐에 추가 (버퍼가 가득 차면 버림)
+     */
+    public void record(RecommendationHistory history) {
+        if (!running) {
+            return;
+        }
+
+        try {
+            long timeoutNanos = properties.getOfferTimeout().toNanos();
+            boolean accepted = timeoutNanos > 0
+                    ? queue.offer(history, timeoutNanos, TimeUnit.NANOSECONDS)
+                    : queue.offer(history);
+
+            if (accepted) {
+                enqueued.increment();
+            } else {
+                dropped.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    private void flushLoop() {
+        List<RecommendationHistory> batch = new ArrayList<>(properties.getBatchSize());
+        long pollNanos = properties.getFlushInterval().toNanos();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                RecommendationHistory first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 이력은 루프 조건에 따라 계속 저장
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<RecommendationHistory> batch) {
+        try {
+            historyRepository.saveAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.warn("추천 이력 저장 실패 - {}건: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 큐에 남은 이력을 모두 저장
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+
+        running = false;
+        flusher.join(properties.getShutdownTimeout().toMillis());
+
+        if (!queue.isEmpty()) {
+            log.warn("종료 시간 초과로 저장하지 못한 추천 이력: {}건", queue.size());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mint.habitus.application.plan;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PlanSubscriptionRejectedException extends RuntimeException {
+
+    public PlanSubscriptionRejectedException(int subscriptions) {
+        super("주간 계획 구독이 너무 많습니다: " + subscriptions);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mint.habitus.application.plan;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class PriorityProfileNotFoundException extends RuntimeException {
+
+    public PriorityProfileNotFoundException(Long userId) {
+        super("저장된 우선순위 프로필이 없습니다: " + userId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mint.habitus.application.plan;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.plan-refresh")
+public class WeeklyPlanRefreshProperties {
+
+    private boolean enabled = true;
+
+    // 우선순위 코드 단위로 병렬 계산할 스레드 수
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    // 사용자 ID 조회와 계획 저장 단위
+    private int batchSize = 500;
+}
@@ -0,0 +1,154 @@
+package com.mint.habitus.application.plan;
+
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import com.mint.habitus.domain.plan.domain.WeeklyPlanRepository;
+import com.mint.habitus.domain.priority.domain.Priority;
+import com.mint.habitus.domain.priority.domain.PriorityProfileRepository;
+import com.mint.habitus.domain.priority.domain.ProfileGroup;
+import com.mint.habitus.domain.recommendation.domain.KnapsackTable;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 프로필로 주간 계획을 미리 계산 (월요일 아침 요청 몰림 방지)
+ * 사용자 수가 아니라 서로 다른 우선순위 코드 수(최대 2,187)만큼 DP를 계산한다.
+ * 우선순위 코드마다 가장 긴 가용 시간까지 DP 상태를 한 번 만들고, 가용 시간 묶음은 역추적만,
+ * 전용 활동이 있는 사용자는 그 상태에 전용 활동만 이어서 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyPlanRefresher {
+
+    private final PriorityProfileRepository profileRepository;
+    private final WeeklyPlanRepository planRepository;
+    private final ActivityRepository activityRepository;
+    private final OptimalActivityFinder optimalActivityFinder;
+    private final WeeklyPlanRefreshProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${habitus.plan-refresh.cron:0 0 4 * * MON}")
+    public void scheduledRefresh() {
+        if (properties.isEnabled()) {
+            refresh();
+        }
+    }
+
+    /**
+     * 모든 프로필의 주간 계획 갱신 (이미 실행 중이면 건너뜀)
+     *
+     * @return 저장한 계획 수
+     */
+    public int refresh() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("주간 계획 갱신이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            return refreshAll();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int refreshAll() {
+        long startedAt = System.nanoTime();
+        ActivityCatalog catalog = activityRepository.findCatalog();
+        Set<Long> ownerIds = activityRepository.findOwnerIds();
+        LocalDateTime computedAt = LocalDateTime.now();
+
+        Map<String, List<ProfileGroup>> byPriority = profileRepository.findGroups().stream()
+                .collect(Collectors.groupingBy(ProfileGroup::priorityCode));
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                properties.getParallelism(),
+                Thread.ofPlatform().name("weekly-plan-refresh-", 1).daemon(true).factory())) {
+            byPriority.forEach((code, groups) -> futures.add(executor.submit(() ->
+                    refreshPriority(catalog, code, groups, ownerIds, computedAt))));
+        }
+
+        int written = 0;
+        int failed = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                written += future.get();
+            } catch (ExecutionException e) {
+                failed++;
+                log.warn("주간 계획 갱신 실패: {}", e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.info("주간 계획 갱신 완료 - 우선순위: {}개 (실패 {}), 계획: {}건, 카탈로그 버전: {}, {}ms",
+                byPriority.size(), failed, written, catalog.getVersion(), (System.nanoTime() - startedAt) / 1_000_000);
+        return written;
+    }
+
+    /**
+     * 한 우선순위 코드의 모든 가용 시간 묶음 계산 및 배치 저장
+     */
+    private int refreshPriority(
+            ActivityCatalog catalog,
+            String priorityCode,
+            List<ProfileGroup> groups,
+            Set<Long> ownerIds,
+            LocalDateTime computedAt
+    ) {
+        Priority priority = Priority.fromCode(priorityCode);
+        int capacity = groups.stream()
+                .mapToInt(ProfileGroup::availableMinutes)
+                .max()
+                .orElseThrow();
+        KnapsackTable base = optimalActivityFinder.prepare(
+                catalog.getActivities(), priority, TimeConstraint.of(capacity));
+
+        int written = 0;
+        for (ProfileGroup group : groups) {
+            TimeConstraint timeConstraint = TimeConstraint.of(group.availableMinutes());
+            RecommendationResult shared = optimalActivityFinder.extend(base, List.of(), priority, timeConstraint);
+
+            long afterUserId = Long.MIN_VALUE;
+            List<Long> userIds;
+            while (!(userIds = profileRepository.findUserIds(group, afterUserId, properties.getBatchSize())).isEmpty()) {
+                List<WeeklyPlan> plans = new ArrayList<>(userIds.size());
+
+                for (Long userId : userIds) {
+                    RecommendationResult result = ownerIds.contains(userId)
+                            ? optimalActivityFinder.extend(
+                                    base, activityRepository.findByOwnerId(userId), priority, timeConstraint)
+                            : shared;
+                    plans.add(WeeklyPlan.of(userId, catalog.getVersion(), priorityCode,
+                            group.availableMinutes(), result, computedAt));
+                }
+
+                planRepository.saveAll(plans);
+                written += plans.size();
+                afterUserId = userIds.get(userIds.size() - 1);
+            }
+        }
+        return written;
+    }
+}
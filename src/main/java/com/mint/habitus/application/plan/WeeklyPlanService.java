@@ -0,0 +1,62 @@
+package com.mint.habitus.application.plan;
+
+import com.mint.habitus.application.plan.dto.PriorityProfileRequest;
+import com.mint.habitus.application.plan.dto.PriorityProfileResponse;
+import com.mint.habitus.application.plan.dto.WeeklyPlanResponse;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.plan.domain.WeeklyPlanRepository;
+import com.mint.habitus.domain.priority.domain.Priority;
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import com.mint.habitus.domain.priority.domain.PriorityProfileChangedEvent;
+import com.mint.habitus.domain.priority.domain.PriorityProfileRepository;
+import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 우선순위 프로필 저장 및 미리 계산된 주간 계획 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeeklyPlanService {
+
+    private final PriorityProfileRepository profileRepository;
+    private final WeeklyPlanRepository planRepository;
+    private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 저장 후 변경 이벤트 발행 (구독 중인 주간 계획 스트림은 커밋 후 새 프로필 기준으로 다시 전송)
+     */
+    @Transactional
+    public PriorityProfileResponse saveProfile(Long userId, PriorityProfileRequest request) {
+        PriorityProfile profile = PriorityProfile.of(
+                userId,
+                Priority.fromCode(request.getPriorityCode()),
+                TimeConstraint.of(request.getAvailableMinutes()),
+                LocalDateTime.now()
+        );
+        PriorityProfile saved = profileRepository.save(profile);
+        eventPublisher.publishEvent(new PriorityProfileChangedEvent(
+                userId, saved.getPriorityCode(), saved.getAvailableMinutes()));
+        return PriorityProfileResponse.from(saved);
+    }
+
+    public Optional<PriorityProfileResponse> findProfile(Long userId) {
+        return profileRepository.findByUserId(userId)
+                .map(PriorityProfileResponse::from);
+    }
+
+    /**
+     * 다음 갱신 전까지는 계산 시점의 카탈로그 기준 (stale로 표시)
+     */
+    public Optional<WeeklyPlanResponse> findPlan(Long userId) {
+        return planRepository.findByUserId(userId)
+                .map(plan -> WeeklyPlanResponse.of(plan, activityRepository.findCatalogVersion()));
+    }
+}
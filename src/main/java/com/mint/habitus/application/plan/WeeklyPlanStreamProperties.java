@@ -0,0 +1,21 @@
+package com.mint.habitus.application.plan;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.plan-stream")
+public class WeeklyPlanStreamProperties {
+
+    // 연결 유지 시간 (만료되면 클라이언트가 다시 구독)
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // 동시에 열어 둘 최대 구독 수
+    private int maxSubscriptions = 10_000;
+
+    // 카탈로그 변경 시 우선순위 코드 단위로 병렬 계산할 스레드 수
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,413 @@
+package com.mint.habitus.application.plan;
+
+import com.mint.habitus.application.plan.dto.WeeklyPlanResponse;
+import com.mint.habitus.application.recommendation.cache.CatalogDpStateCache;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.activity.domain.CatalogChangedEvent;
+import com.mint.habitus.domain.activity.domain.UserActivitiesChangedEvent;
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import com.mint.habitus.domain.priority.domain.Priority;
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import com.mint.habitus.domain.priority.domain.PriorityProfileChangedEvent;
+import com.mint.habitus.domain.priority.domain.PriorityProfileRepository;
+import com.mint.habitus.domain.recommendation.domain.KnapsackTable;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 주간 계획 SSE 구독 - 카탈로그가 바뀌면 갱신된 계획을 구독자에게 전송 (polling 대체)
+ * 구독은 (우선순위 코드, 가용 시간)별로 묶어 두고, 변경 시 구독 중인 서로 다른 묶음만 다시 계산한다.
+ * 계산은 우선순위 코드 단위로 고정 크기 풀에서, 전송은 구독마다 가상 스레드에서 수행하여
+ * 느린 연결이 계산이나 다른 구독자의 전송을 막지 않는다.
+ * 한 구독의 전송(계획, heartbeat)은 구독별 락으로 직렬화하여 이벤트가 섞이거나 이전 버전이 나중에 도착하지 않는다.
+ * 프로필을 바꾸면 구독을 새 묶음으로 옮기고, 전용 활동이 바뀌면 해당 사용자의 구독만 다시 전송한다.
+ */
+@Slf4j
+@Service
+public class WeeklyPlanStreamService {
+
+    static final String EVENT_NAME = "weekly-plan";
+
+    private final PriorityProfileRepository profileRepository;
+    private final ActivityRepository activityRepository;
+    private final OptimalActivityFinder optimalActivityFinder;
+    private final CatalogDpStateCache dpStateCache;
+    private final WeeklyPlanStreamProperties properties;
+
+    private final Map<ProfileKey, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    private final ExecutorService solveExecutor;
+    private final ExecutorService sendExecutor;
+
+    public WeeklyPlanStreamService(
+            PriorityProfileRepository profileRepository,
+            ActivityRepository activityRepository,
+            OptimalActivityFinder optimalActivityFinder,
+            CatalogDpStateCache dpStateCache,
+            WeeklyPlanStreamProperties properties
+    ) {
+        this.profileRepository = profileRepository;
+        this.activityRepository = activityRepository;
+        this.optimalActivityFinder = optimalActivityFinder;
+        this.dpStateCache = dpStateCache;
+        this.properties = properties;
+
+        this.solveExecutor = Executors.newFixedThreadPool(
+                properties.getParallelism(),
+                Thread.ofPlatform().name("weekly-plan-stream-", 1).daemon(true).factory());
+        this.sendExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("weekly-plan-send-", 1).factory());
+    }
+
+    /**
+     * 저장된 프로필로 구독하고 현재 계획을 바로 한 번 전송 (요청 스레드는 계산을 기다리지 않음)
+     */
+    public SseEmitter subscribe(Long userId) {
+        PriorityProfile profile = profileRepository.findByUserId(userId)
+                .orElseThrow(() -> new PriorityProfileNotFoundException(userId));
+
+        int count = subscriptionCount.incrementAndGet();
+        if (count > properties.getMaxSubscriptions()) {
+            subscriptionCount.decrementAndGet();
+            throw new PlanSubscriptionRejectedException(count - 1);
+        }
+
+        ProfileKey key = new ProfileKey(profile.getPriorityCode(), profile.getAvailableMinutes());
+        Subscription subscription = new Subscription(userId, key, createEmitter(properties.getTimeout().toMillis()));
+        register(key, subscription);
+
+        // 시간 초과, 오류 후에도 완료 콜백이 호출되지만 컨테이너에 따라 다르므로 모두 등록 (중복 해제는 무시)
+        subscription.emitter().onCompletion(() -> unsubscribe(subscription));
+        subscription.emitter().onTimeout(() -> unsubscribe(subscription));
+        subscription.emitter().onError(error -> unsubscribe(subscription));
+
+        log.debug("주간 계획 구독 - userId: {}, 우선순위: {}, 가용시간: {}분, 구독: {}",
+                userId, key.priorityCode(), key.availableMinutes(), count);
+
+        solveExecutor.execute(() -> publish(
+                activityRepository.findCatalog(), activityRepository.findOwnerIds(), key, List.of(subscription)));
+        return subscription.emitter();
+    }
+
+    /**
+     * 카탈로그가 바뀌면 구독 중인 묶음만 우선순위 코드별로 다시 계산하여 전송
+     * 같은 코드의 묶음은 같은 작업에서 계산하여 DP 상태를 한 번만 만든다.
+     */
+    @EventListener(CatalogChangedEvent.class)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Map<String, List<ProfileKey>> byPriority = subscriptions.keySet().stream()
+                .collect(Collectors.groupingBy(ProfileKey::priorityCode));
+        if (byPriority.isEmpty()) {
+            return;
+        }
+
+        log.info("카탈로그 변경으로 주간 계획 재전송 - 버전: {} → {}, 우선순위: {}개, 구독: {}",
+                event.previousVersion(), event.currentVersion(), byPriority.size(), subscriptionCount.get());
+
+        byPriority.forEach((code, keys) -> solveExecutor.execute(() -> {
+            ActivityCatalog catalog = activityRepository.findCatalog();
+            Set<Long> ownerIds = activityRepository.findOwnerIds();
+            for (ProfileKey key : keys) {
+                publish(catalog, ownerIds, key, List.copyOf(subscriptions.getOrDefault(key, Set.of())));
+            }
+        }));
+    }
+
+    /**
+     * 프로필이 바뀌면 해당 사용자의 구독을 새 (우선순위 코드, 가용 시간) 묶음으로 옮기고 새 계획을 전송
+     * 이전 프로필로 계산 중이던 계획은 세대가 바뀌어 전송되지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(PriorityProfileChangedEvent event) {
+        List<Subscription> targets = subscriptionsOf(event.userId());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        ProfileKey key = new ProfileKey(event.priorityCode(), event.availableMinutes());
+        log.debug("프로필 변경으로 주간 계획 재전송 - userId: {}, 우선순위: {}, 가용시간: {}분",
+                event.userId(), key.priorityCode(), key.availableMinutes());
+
+        for (Subscription subscription : targets) {
+            move(subscription, key);
+            subscription.renew();
+        }
+        solveExecutor.execute(() -> publish(
+                activityRepository.findCatalog(), activityRepository.findOwnerIds(), key, targets));
+    }
+
+    /**
+     * 전용 활동이 바뀌면 전역 카탈로그 버전은 그대로이므로 해당 사용자의 구독만 새 세대로 다시 전송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserActivitiesChanged(UserActivitiesChangedEvent event) {
+        List<Subscription> targets = subscriptionsOf(event.userId());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        targets.forEach(Subscription::renew);
+        Map<ProfileKey, List<Subscription>> byKey = targets.stream()
+                .collect(Collectors.groupingBy(subscription -> subscription.key().get()));
+
+        solveExecutor.execute(() -> {
+            ActivityCatalog catalog = activityRepository.findCatalog();
+            Set<Long> ownerIds = activityRepository.findOwnerIds();
+            byKey.forEach((key, subscribers) -> publish(catalog, ownerIds, key, subscribers));
+        });
+    }
+
+    /**
+     * 프록시가 유휴 연결을 끊지 않도록 주석 이벤트 전송 (끊어진 연결은 이때 정리된다)
+     */
+    @Scheduled(fixedDelayString = "${habitus.plan-stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(subscription ->
+                sendExecutor.execute(() -> sendHeartbeat(subscription))));
+    }
+
+    public int subscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    /**
+     * 한 묶음의 계획 계산 후 전송 - 전용 활동이 없는 구독자는 하나의 결과를 공유한다.
+     */
+    private void publish(
+            ActivityCatalog catalog,
+            Set<Long> ownerIds,
+            ProfileKey key,
+            Collection<Subscription> targets
+    ) {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        try {
+            long version = catalog.getVersion();
+            Priority priority = Priority.fromCode(key.priorityCode());
+            TimeConstraint timeConstraint = TimeConstraint.of(key.availableMinutes());
+            KnapsackTable base = dpStateCache.get(version, key.priorityCode(), () ->
+                    optimalActivityFinder.prepare(catalog.getActivities(), priority)
+            );
+            LocalDateTime computedAt = LocalDateTime.now();
+            RecommendationResult shared = null;
+
+            for (Subscription subscription : targets) {
+                // 세대를 먼저 읽고 묶음을 확인해야 계산 중 프로필이 바뀐 구독을 놓치지 않는다.
+                int generation = subscription.generation();
+                if (!key.equals(subscription.key().get())) {
+                    continue;
+                }
+                // 이미 같거나 새 버전을 받은 구독은 계산하지 않음 (최종 판단은 전송 시 락 안에서)
+                if (subscription.isSent(generation, version)) {
+                    continue;
+                }
+
+                RecommendationResult result;
+                if (ownerIds.contains(subscription.userId())) {
+                    result = optimalActivityFinder.extend(
+                            base, activityRepository.findByOwnerId(subscription.userId()), priority, timeConstraint);
+                } else {
+                    if (shared == null) {
+                        shared = optimalActivityFinder.extend(base, List.of(), priority, timeConstraint);
+                    }
+                    result = shared;
+                }
+
+                WeeklyPlanResponse response = WeeklyPlanResponse.of(WeeklyPlan.of(subscription.userId(), version,
+                        key.priorityCode(), key.availableMinutes(), result, computedAt), version);
+                sendExecutor.execute(() -> sendPlan(subscription, generation, version, response));
+            }
+        } catch (RuntimeException e) {
+            log.warn("주간 계획 재계산 실패 - 우선순위: {}, 가용시간: {}분: {}",
+                    key.priorityCode(), key.availableMinutes(), e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 직후 계산과 변경 이벤트가 겹치거나 전송 순서가 바뀌어도 같은 버전은 한 번, 이전 버전이나 세대는 보내지 않음
+     */
+    private void sendPlan(Subscription subscription, int generation, long version, WeeklyPlanResponse response) {
+        subscription.lock().lock();
+        try {
+            if (!subscription.claim(generation, version)) {
+                return;
+            }
+            send(subscription, SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .id(Long.toString(version))
+                    .data(response, MediaType.APPLICATION_JSON));
+        } finally {
+            subscription.lock().unlock();
+        }
+    }
+
+    private void sendHeartbeat(Subscription subscription) {
+        subscription.lock().lock();
+        try {
+            send(subscription, SseEmitter.event().comment("heartbeat"));
+        } finally {
+            subscription.lock().unlock();
+        }
+    }
+
+    /**
+     * 호출 전에 구독 락을 잡고 있어야 한다.
+     */
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (subscription.closed().get()) {
+            return;
+        }
+        try {
+            subscription.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 구독
+            log.debug("주간 계획 전송 실패 - userId: {}: {}", subscription.userId(), e.getMessage());
+            unsubscribe(subscription);
+            subscription.emitter().completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        if (!subscription.close()) {
+            return;
+        }
+        subscriptionCount.decrementAndGet();
+        remove(subscription.key().get(), subscription);
+    }
+
+    private List<Subscription> subscriptionsOf(Long userId) {
+        return subscriptions.values().stream()
+                .flatMap(Set::stream)
+                .filter(subscription -> subscription.userId().equals(userId))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 묶음을 바꾼 뒤 이전 묶음에서 빼고 새 묶음에 등록
+     * 그 사이 해제되었거나 다른 묶음으로 다시 옮겨졌으면 등록을 되돌린다 (해제/이동과 잠금 없이 경쟁해도 한 곳에만 남음).
+     */
+    private void move(Subscription subscription, ProfileKey key) {
+        ProfileKey previous = subscription.key().getAndSet(key);
+        if (previous.equals(key)) {
+            return;
+        }
+        remove(previous, subscription);
+        register(key, subscription);
+    }
+
+    private void register(ProfileKey key, Subscription subscription) {
+        subscriptions.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(subscription);
+        if (subscription.closed().get() || !key.equals(subscription.key().get())) {
+            remove(key, subscription);
+        }
+    }
+
+    private void remove(ProfileKey key, Subscription subscription) {
+        subscriptions.computeIfPresent(key, (ignored, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(subscription ->
+                subscription.emitter().complete()));
+        solveExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    private record ProfileKey(String priorityCode, int availableMinutes) {
+    }
+
+    /**
+     * 마지막 전송 (세대, 카탈로그 버전) - 프로필이나 전용 활동이 바뀌면 세대가 올라가 같은 버전도 다시 보낸다.
+     */
+    private record Delivery(int generation, long version) {
+    }
+
+    /**
+     * 구독 하나 (현재 묶음, 마지막 전송, 해제 여부, 전송 직렬화 락)
+     * 가상 스레드가 전송 중 블록되므로 synchronized 대신 ReentrantLock을 사용한다.
+     */
+    private record Subscription(
+            Long userId,
+            AtomicReference<ProfileKey> key,
+            SseEmitter emitter,
+            AtomicReference<Delivery> sent,
+            AtomicBoolean closed,
+            ReentrantLock lock
+    ) {
+
+        Subscription(Long userId, ProfileKey key, SseEmitter emitter) {
+            this(userId, new AtomicReference<>(key), emitter, new AtomicReference<>(new Delivery(0, -1L)),
+                    new AtomicBoolean(), new ReentrantLock());
+        }
+
+        int generation() {
+            return sent.get().generation();
+        }
+
+        /**
+         * 세대가 지났거나 이미 같거나 새 버전을 받았으면 보낼 필요 없음
+         */
+        boolean isSent(int generation, long version) {
+            Delivery current = sent.get();
+            return current.generation() != generation || current.version() >= version;
+        }
+
+        boolean claim(int generation, long version) {
+            Delivery current = sent.get();
+            while (current.generation() == generation && current.version() < version) {
+                if (sent.compareAndSet(current, new Delivery(generation, version))) {
+                    return true;
+                }
+                current = sent.get();
+            }
+            return false;
+        }
+
+        /**
+         * 새 세대 시작 - 진행 중인 이전 세대 계산은 전송되지 않고, 현재 버전도 다시 전송된다.
+         */
+        void renew() {
+            sent.updateAndGet(current -> new Delivery(current.generation() + 1, -1L));
+        }
+
+        boolean close() {
+            return closed.compareAndSet(false, true);
+        }
+    }
+}
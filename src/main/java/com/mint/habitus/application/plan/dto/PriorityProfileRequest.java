@@ -0,0 +1,17 @@
+package com.mint.habitus.application.plan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriorityProfileRequest {
+
+    // 자본 순서대로 가중치를 나열한 코드 (예: 3211211)
+    private String priorityCode;
+    private Integer availableMinutes;
+}
@@ -0,0 +1,29 @@
+package com.mint.habitus.application.plan.dto;
+
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriorityProfileResponse {
+
+    private Long userId;
+    private String priorityCode;
+    private Integer availableMinutes;
+    private LocalDateTime updatedAt;
+
+    public static PriorityProfileResponse from(PriorityProfile profile) {
+        return PriorityProfileResponse.builder()
+                .userId(profile.getUserId())
+                .priorityCode(profile.getPriorityCode())
+                .availableMinutes(profile.getAvailableMinutes())
+                .updatedAt(profile.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mint.habitus.application.plan.dto;
+
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyPlanResponse {
+
+    private Long userId;
+    private String priorityCode;
+    private Integer availableMinutes;
+    private List<Long> selectedActivityIds;
+    private Integer totalValue;
+    private Integer totalMinutes;
+    private LocalDateTime computedAt;
+
+    // 계산 이후 카탈로그가 바뀌었으면 true (다음 갱신 전까지 이전 카탈로그 기준)
+    private Boolean stale;
+
+    public static WeeklyPlanResponse of(WeeklyPlan plan, long currentCatalogVersion) {
+        return WeeklyPlanResponse.builder()
+                .userId(plan.getUserId())
+                .priorityCode(plan.getPriorityCode())
+                .availableMinutes(plan.getAvailableMinutes())
+                .selectedActivityIds(plan.getSelectedActivityIds())
+                .totalValue(plan.getTotalValue())
+                .totalMinutes(plan.getTotalMinutes())
+                .computedAt(plan.getComputedAt())
+                .stale(plan.isStale(currentCatalogVersion))
+                .build();
+    }
+}
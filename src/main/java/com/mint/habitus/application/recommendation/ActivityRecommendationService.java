@@ -1,25 +1,57 @@
 package com.mint.habitus.application.recommendation;
 
+import com.mint.habitus.application.history.RecommendationHistoryRecorder;
+import com.mint.habitus.application.recommendation.cache.CatalogDpStateCache;
+import com.mint.habitus.application.recommendation.dto.HorizonRequest;
+import com.mint.habitus.application.recommendation.dto.HorizonResponse;
 import com.mint.habitus.application.recommendation.dto.RecommendationRequest;
 import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import com.mint.habitus.application.recommendation.dto.ResponseFields;
+import com.mint.habitus.application.recommendation.dto.ValueCurveRequest;
+import com.mint.habitus.application.recommendation.dto.ValueCurveResponse;
+import com.mint.habitus.application.recommendation.dto.ValueCurveResponse.CurvePoint;
+import com.mint.habitus.application.recommendation.dto.ValueCurveResponse.MarginalGain;
+import com.mint.habitus.application.recommendation.flight.RecommendationSingleFlight;
+import com.mint.habitus.application.recommendation.flight.RecommendationSingleFlight.FlightKey;
 import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
 import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.activity.domain.OwnedActivityRevision;
 import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.history.domain.RecommendationHistory;
 import com.mint.habitus.domain.priority.domain.Priority;
 import com.mint.habitus.domain.priority.domain.PriorityLevel;
 import com.mint.habitus.application.recommendation.dto.RecommendationResponse.RecommendedActivity;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse.ScheduledSlot;
+import com.mint.habitus.domain.recommendation.domain.AvailabilityWindow;
+import com.mint.habitus.domain.recommendation.domain.BalancedActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.BalancedRecommendation;
+import com.mint.habitus.domain.recommendation.domain.CalendarActivityPlanner;
+import com.mint.habitus.domain.recommendation.domain.CalendarPlan;
+import com.mint.habitus.domain.recommendation.domain.HorizonPlan;
+import com.mint.habitus.domain.recommendation.domain.HorizonPlanner;
+import com.mint.habitus.domain.recommendation.domain.KnapsackTable;
 import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
 import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import com.mint.habitus.domain.recommendation.domain.ScheduledActivity;
 import com.mint.habitus.domain.recommendation.domain.SelectedActivity;
 import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import com.mint.habitus.domain.recommendation.domain.ValueCurve;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -31,24 +63,287 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ActivityRecommendationService {
 
+    private static final int DEFAULT_CURVE_DELTA_MINUTES = 60;
+    private static final int DEFAULT_CURVE_MAX_POINTS = 200;
+
     private final ActivityRepository activityRepository;
     private final OptimalActivityFinder optimalActivityFinder;
+    private final RecommendationHistoryRecorder historyRecorder;
+    private final RecommendationSingleFlight singleFlight;
+    private final CatalogDpStateCache dpStateCache;
+    private final CalendarActivityPlanner calendarActivityPlanner;
+    private final BalancedActivityFinder balancedActivityFinder;
+    private final HorizonPlanner horizonPlanner;
 
     public RecommendationResponse recommendWeeklyActivities(RecommendationRequest request) {
+        return recommendWeeklyActivities(request, activityRepository.findCatalog());
+    }
+
+    /**
+     * 주어진 카탈로그로 추천 (ETag를 만든 카탈로그와 같은 버전으로 계산할 때)
+     */
+    public RecommendationResponse recommendWeeklyActivities(RecommendationRequest request, ActivityCatalog catalog) {
         log.info("최적화된 활동 추천 요청 - userId: {}, 가용시간: {}분", request.getUserId(), request.getAvailableMinutes());
 
+        if (request.hasAvailabilityWindows()) {
+            return recommendForWindows(request, catalog);
+        }
+        if (request.isBalanced()) {
+            return recommendBalanced(request, catalog);
+        }
+
+        List<Activity> userActivities = findUserActivities(request.getUserId());
+
+        return recommend(request, (priority, timeConstraint) -> {
+            RecommendationResult result = userActivities.isEmpty()
+                    ? solveGlobal(catalog, priority, timeConstraint)
+                    : solveWithUserActivities(catalog, userActivities, priority, timeConstraint);
+
+            // 이력 기록 (Write-behind)
+            historyRecorder.record(toHistory(request.getUserId(), priority, timeConstraint, result));
+            return result;
+        });
+    }
+
+    /**
+     * 요청 하나에서 ETag와 추천 계산에 함께 쓸 카탈로그 (스냅샷 우선)
+     * 따로 읽으면 그 사이 스냅샷이 무효화될 때 ETag와 본문의 카탈로그 버전이 어긋날 수 있다.
+     */
+    public ActivityCatalog findCatalog() {
+        return activityRepository.findCatalog();
+    }
+
+    /**
+     * 응답을 결정하는 입력으로 만든 강한 ETag (최적화 없이 계산)
+     * "카탈로그 버전-우선순위 코드-가용 시간-나머지 입력(목적, 응답 필드, 시간대, 사용자 활동) 해시"
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String resolveETag(RecommendationRequest request, ActivityCatalog catalog) {
+        long catalogVersion = catalog.getVersion();
+        String priorityCode = createPriority(request.getPriorities()).getCode();
+
+        StringBuilder variant = new StringBuilder()
+                .append(request.isBalanced() ? "BALANCED" : "LINEAR")
+                .append("|fields:").append(request.responseFields().getKey());
+        if (request.hasAvailabilityWindows()) {
+            request.getAvailabilityWindows().forEach(window -> variant.append('|')
+                    .append(window.getDayOfWeek()).append(',')
+                    .append(window.getStartTime()).append(',')
+                    .append(window.getEndTime()));
+        }
+        if (request.getUserId() != null) {
+            OwnedActivityRevision revision = activityRepository.findOwnedRevision(request.getUserId());
+            variant.append("|user:").append(request.getUserId())
+                    .append(',').append(revision.count())
+                    .append(',').append(revision.latestId());
+        }
+
+        return "\"" + catalogVersion + "-" + priorityCode + "-" + request.getAvailableMinutes()
+                + "-" + digest(variant.toString()) + "\"";
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 가용 시간대마다 활동을 배치하는 추천
+     */
+    private RecommendationResponse recommendForWindows(RecommendationRequest request, ActivityCatalog catalog) {
+        Priority priority = createPriority(request.getPriorities());
+        List<AvailabilityWindow> windows = request.getAvailabilityWindows().stream()
+                .map(window -> AvailabilityWindow.of(window.getDayOfWeek(), window.getStartTime(), window.getEndTime()))
+                .toList();
+
+        List<Activity> activities = new ArrayList<>(catalog.getActivities());
+        activities.addAll(findUserActivities(request.getUserId()));
+
+        CalendarPlan plan = calendarActivityPlanner.plan(activities, priority, windows);
+        RecommendationResult result = plan.getResult();
+
+        TimeConstraint timeConstraint = TimeConstraint.of(result.getTotalMinutes() + result.getRemainingMinutes());
+        historyRecorder.record(toHistory(request.getUserId(), priority, timeConstraint, result));
+
+        ResponseFields fields = request.responseFields();
+        RecommendationResponse response = toResponse(result, priority, fields);
+        if (!fields.includes(ResponseFields.SCHEDULE)) {
+            return response;
+        }
+        return response.toBuilder()
+                .schedule(toScheduledSlots(plan.getSchedule()))
+                .build();
+    }
+
+    /**
+     * 체감 수익 기반 균형 목적 추천 (반복 DP이므로 DP 상태 캐시/요청 공유 없이 계산)
+     */
+    private RecommendationResponse recommendBalanced(RecommendationRequest request, ActivityCatalog catalog) {
+        Priority priority = createPriority(request.getPriorities());
+        TimeConstraint timeConstraint = TimeConstraint.of(request.getAvailableMinutes());
+
+        List<Activity> activities = new ArrayList<>(catalog.getActivities());
+        activities.addAll(findUserActivities(request.getUserId()));
+
+        BalancedRecommendation balanced = balancedActivityFinder.find(activities, priority, timeConstraint);
+        RecommendationResult result = balanced.getResult();
+
+        historyRecorder.record(toHistory(request.getUserId(), priority, timeConstraint, result));
+
+        ResponseFields fields = request.responseFields();
+        return toResponse(result, priority, fields).toBuilder()
+                .balancedUtility(fields.includes(ResponseFields.BALANCED_UTILITY) ? balanced.getUtility() : null)
+                .optimalityGap(fields.includes(ResponseFields.OPTIMALITY_GAP) ? balanced.getOptimalityGap() : null)
+                .build();
+    }
+
+    /**
+     * 가용 시간별 최적 가치 곡선과 지정 시점의 한계 가치
+     * 캐시된 1주일 DP 상태의 마지막 행을 사용하므로 가용 시간마다 따로 계산하지 않는다.
+     */
+    public ValueCurveResponse findValueCurve(ValueCurveRequest request) {
+        Priority priority = createPriority(request.getPriorities());
+        int maxMinutes = request.getMaxMinutes() == null
+                ? TimeConstraint.fullWeek().getTotalMinutes()
+                : TimeConstraint.of(request.getMaxMinutes()).getTotalMinutes();
+        int deltaMinutes = request.getDeltaMinutes() == null ? DEFAULT_CURVE_DELTA_MINUTES : request.getDeltaMinutes();
+        int maxPoints = request.getMaxPoints() == null ? DEFAULT_CURVE_MAX_POINTS : request.getMaxPoints();
+
+        ActivityCatalog catalog = activityRepository.findCatalog();
+        KnapsackTable base = dpStateCache.get(catalog.getVersion(), priority.getCode(), () ->
+                optimalActivityFinder.prepare(catalog.getActivities(), priority)
+        );
+        ValueCurve curve = optimalActivityFinder.curve(
+                base, findUserActivities(request.getUserId()), priority, maxMinutes);
+
+        List<Integer> points = request.getPoints() == null ? List.of() : request.getPoints();
+        return ValueCurveResponse.builder()
+                .priorityCode(priority.getCode())
+                .maxMinutes(curve.getMaxMinutes())
+                .maxValue(curve.getMaxValue())
+                .breakpoints(curve.breakpoints(maxPoints).stream()
+                        .map(point -> new CurvePoint(point.minutes(), point.value()))
+                        .toList())
+                .marginalGains(points.stream()
+                        .map(minutes -> MarginalGain.builder()
+                                .minutes(minutes)
+                                .value(curve.valueAt(minutes))
+                                .deltaMinutes(deltaMinutes)
+                                .gain(curve.marginalGain(minutes, deltaMinutes))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 주별 가용 시간이 다른 여러 주 계획 (같은 활동은 최대 maxRepeats주까지)
+     */
+    public HorizonResponse recommendHorizon(HorizonRequest request) {
+        Priority priority = createPriority(request.getPriorities());
+        if (request.getWeeklyAvailableMinutes() == null) {
+            throw new IllegalArgumentException("주별 가용 시간은 필수입니다.");
+        }
+        List<TimeConstraint> weeks = request.getWeeklyAvailableMinutes().stream()
+                .map(TimeConstraint::of)
+                .toList();
+        int maxRepeats = request.getMaxRepeats() == null ? weeks.size() : request.getMaxRepeats();
+
+        List<Activity> activities = new ArrayList<>(activityRepository.findCatalog().getActivities());
+        activities.addAll(findUserActivities(request.getUserId()));
+
+        HorizonPlan plan = horizonPlanner.plan(activities, priority, weeks, maxRepeats);
+
+        ResponseFields fields = request.responseFields();
+        return HorizonResponse.builder()
+                .maxRepeats(maxRepeats)
+                .totalValue(plan.getTotalValue())
+                .upperBound(plan.getUpperBound())
+                .optimalityGap(plan.getOptimalityGap())
+                .weeks(plan.getWeeks().stream()
+                        .map(result -> toResponse(result, priority, fields))
+                        .toList())
+                .build();
+    }
+
+    private List<ScheduledSlot> toScheduledSlots(List<ScheduledActivity> schedule) {
+        return schedule.stream()
+                .map(scheduled -> ScheduledSlot.builder()
+                        .activityId(scheduled.getSelected().getActivity().getId())
+                        .name(scheduled.getSelected().getActivity().getName())
+                        .dayOfWeek(scheduled.getDayOfWeek())
+                        .startTime(scheduled.getStartTime())
+                        .endTime(scheduled.getEndTime())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 주어진 활동 목록으로 추천 (워밍업에서 합성 카탈로그로 호출)
+     * DB 접근이 없으므로 트랜잭션을 시작하지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RecommendationResponse recommend(RecommendationRequest request, List<Activity> activities) {
+        return recommend(request, (priority, timeConstraint) ->
+                optimalActivityFinder.find(activities, priority, timeConstraint)
+        );
+    }
+
+    /**
+     * 가용 시간 단일 추천의 공통 흐름 (계산 방식만 호출하는 쪽에서 결정)
+     */
+    private RecommendationResponse recommend(
+            RecommendationRequest request,
+            BiFunction<Priority, TimeConstraint, RecommendationResult> solver
+    ) {
         // 1. 도메인 객체 생성
         Priority priority = createPriority(request.getPriorities());
         TimeConstraint timeConstraint = TimeConstraint.of(request.getAvailableMinutes());
 
-        // 2. 활동 목록 조회
-        List<Activity> activities = activityRepository.findAll();
+        // 2. 최적화 실행
+        RecommendationResult result = solver.apply(priority, timeConstraint);
+
+        // 3. DTO 변환 (요청한 필드만)
+        return toResponse(result, priority, request.responseFields());
+    }
+
+    /**
+     * 전역 카탈로그만 사용 (동일 요청은 진행 중인 계산 공유)
+     */
+    private RecommendationResult solveGlobal(
+            ActivityCatalog catalog,
+            Priority priority,
+            TimeConstraint timeConstraint
+    ) {
+        FlightKey key = new FlightKey(catalog.getVersion(), priority.getCode(), timeConstraint.getTotalMinutes());
+        return singleFlight.execute(key, () ->
+                optimalActivityFinder.find(catalog.getActivities(), priority, timeConstraint)
+        );
+    }
 
-        // 3. 최적화 실행
-        RecommendationResult result = optimalActivityFinder.find(activities, priority, timeConstraint);
+    /**
+     * 캐시된 전역 카탈로그 DP 상태에 사용자 활동만 이어서 계산
+     */
+    private RecommendationResult solveWithUserActivities(
+            ActivityCatalog catalog,
+            List<Activity> userActivities,
+            Priority priority,
+            TimeConstraint timeConstraint
+    ) {
+        KnapsackTable base = dpStateCache.get(catalog.getVersion(), priority.getCode(), () ->
+                optimalActivityFinder.prepare(catalog.getActivities(), priority)
+        );
+        return optimalActivityFinder.extend(base, userActivities, priority, timeConstraint);
+    }
 
-        // 4. DTO 변환
-        return toResponse(result, priority);
+    private List<Activity> findUserActivities(Long userId) {
+        if (userId == null) {
+            return List.of();
+        }
+        return activityRepository.findByOwnerId(userId);
     }
 
     private Priority createPriority(Map<String, Integer> priorityMap) {
@@ -76,48 +371,106 @@ public class ActivityRecommendationService {
         return Priority.of(priorities);
     }
 
-    private RecommendationResponse toResponse(RecommendationResult result, Priority priority) {
+    private RecommendationHistory toHistory(
+            Long userId,
+            Priority priority,
+            TimeConstraint timeConstraint,
+            RecommendationResult result
+    ) {
+        return RecommendationHistory.builder()
+                .userId(userId)
+                .priorityCode(priority.getCode())
+                .availableMinutes(timeConstraint.getTotalMinutes())
+                .selectedActivityIds(result.getSelectedActivities().stream()
+                        .map(selected -> selected.getActivity().getId())
+                        .toList())
+                .totalValue(result.getTotalValue())
+                .recommendedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 요청한 필드만 계산하여 응답 생성 (제외한 필드는 null → 직렬화하지 않음)
+     */
+    private RecommendationResponse toResponse(RecommendationResult result, Priority priority, ResponseFields fields) {
+        RecommendationResponse.RecommendationResponseBuilder response = RecommendationResponse.builder();
+
+        if (fields.includes(ResponseFields.TOTAL_VALUE)) {
+            response.totalValue(result.getTotalValue());
+        }
+        if (fields.includes(ResponseFields.TOTAL_MINUTES)) {
+            response.totalMinutes(result.getTotalMinutes());
+        }
+        if (fields.includes(ResponseFields.REMAINING_MINUTES)) {
+            response.remainingMinutes(result.getRemainingMinutes());
+        }
+        if (fields.includes(ResponseFields.ACTIVITY_COUNT)) {
+            response.activityCount(result.getActivityCount());
+        }
+        if (fields.includes(ResponseFields.TIME_UTILIZATION_RATE)) {
+            response.timeUtilizationRate(result.getTimeUtilizationRate());
+        }
+
+        // 자본별 총 증가량
+        if (fields.includes(ResponseFields.TOTAL_CAPITAL_GAIN)) {
+            Map<String, Integer> totalCapitalGain = new LinkedHashMap<>();
+            result.getTotalCapitalGains().forEach((type, gain) ->
+                    totalCapitalGain.put(type.name(), gain)
+            );
+            response.totalCapitalGain(totalCapitalGain);
+        }
+
+        if (fields.includes(ResponseFields.SELECTED_ACTIVITIES)) {
+            response.selectedActivities(toRecommendedActivities(result, priority, fields));
+        }
+
+        return response.build();
+    }
+
+    private List<RecommendedActivity> toRecommendedActivities(
+            RecommendationResult result,
+            Priority priority,
+            ResponseFields fields
+    ) {
         List<RecommendedActivity> activities = new ArrayList<>();
 
         for (SelectedActivity selected : result.getSelectedActivities()) {
             Activity activity = selected.getActivity();
+            RecommendedActivity.RecommendedActivityBuilder recommended = RecommendedActivity.builder();
+
+            if (fields.includesActivity(ResponseFields.ACTIVITY_ID)) {
+                recommended.id(activity.getId());
+            }
+            if (fields.includesActivity(ResponseFields.ACTIVITY_NAME)) {
+                recommended.name(activity.getName());
+            }
+            if (fields.includesActivity(ResponseFields.ACTIVITY_DURATION)) {
+                recommended.duration(activity.getDurationMinutes());
+            }
+            if (fields.includesActivity(ResponseFields.ACTIVITY_CALCULATED_VALUE)) {
+                recommended.calculatedValue(selected.getValue());
+            }
 
             // 원본 효과
-            Map<String, Integer> originalEffects = new LinkedHashMap<>();
-            activity.getActiveEffects().forEach((type, effect) ->
-                    originalEffects.put(type.name(), effect)
-            );
+            if (fields.includesActivity(ResponseFields.ACTIVITY_ORIGINAL_EFFECTS)) {
+                Map<String, Integer> originalEffects = new LinkedHashMap<>();
+                activity.getActiveEffects().forEach((type, effect) ->
+                        originalEffects.put(type.name(), effect)
+                );
+                recommended.originalEffects(originalEffects);
+            }
 
             // 가중 효과
-            Map<String, Integer> weightedEffects = new LinkedHashMap<>();
-            activity.getWeightedEffects(priority).forEach((type, effect) ->
-                    weightedEffects.put(type.name(), effect)
-            );
+            if (fields.includesActivity(ResponseFields.ACTIVITY_WEIGHTED_EFFECTS)) {
+                Map<String, Integer> weightedEffects = new LinkedHashMap<>();
+                activity.getWeightedEffects(priority).forEach((type, effect) ->
+                        weightedEffects.put(type.name(), effect)
+                );
+                recommended.weightedEffects(weightedEffects);
+            }
 
-            activities.add(RecommendedActivity.builder()
-                    .id(activity.getId())
-                    .name(activity.getName())
-                    .duration(activity.getDurationMinutes())
-                    .calculatedValue(selected.getValue())
-                    .originalEffects(originalEffects)
-                    .weightedEffects(weightedEffects)
-                    .build());
+            activities.add(recommended.build());
         }
-
-        // 자본별 총 증가량
-        Map<String, Integer> totalCapitalGain = new LinkedHashMap<>();
-        result.getTotalCapitalGains().forEach((type, gain) ->
-                totalCapitalGain.put(type.name(), gain)
-        );
-
-        return RecommendationResponse.builder()
-                .totalValue(result.getTotalValue())
-                .totalMinutes(result.getTotalMinutes())
-                .remainingMinutes(result.getRemainingMinutes())
-                .activityCount(result.getActivityCount())
-                .timeUtilizationRate(result.getTimeUtilizationRate())
-                .totalCapitalGain(totalCapitalGain)
-                .selectedActivities(activities)
-                .build();
+        return activities;
     }
 }
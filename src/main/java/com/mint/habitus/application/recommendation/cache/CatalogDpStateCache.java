@@ -0,0 +1,57 @@
+package com.mint.habitus.application.recommendation.cache;
+
+import com.mint.habitus.domain.activity.domain.CatalogChangedEvent;
+import com.mint.habitus.domain.recommendation.domain.KnapsackTable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * (카탈로그 버전, 우선순위 코드)별 전역 카탈로그 DP 상태 캐시 (LRU)
+ * 사용자 전용 활동이 있는 요청은 이 상태를 이어받아 추가 활동만 계산한다.
+ */
+@Component
+public class CatalogDpStateCache {
+
+    private final Map<StateKey, KnapsackTable> states;
+
+    public CatalogDpStateCache(@Value("${habitus.dp-state-cache.max-entries:32}") int maxEntries) {
+        this.states = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StateKey, KnapsackTable> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public KnapsackTable get(long catalogVersion, String priorityCode, Supplier<KnapsackTable> loader) {
+        StateKey key = new StateKey(catalogVersion, priorityCode);
+
+        synchronized (states) {
+            KnapsackTable cached = states.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 계산은 잠금 밖에서 수행 (동시 계산 시 마지막 결과로 덮어씀)
+        KnapsackTable loaded = loader.get();
+        synchronized (states) {
+            states.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @EventListener(CatalogChangedEvent.class)
+    public void clear() {
+        synchronized (states) {
+            states.clear();
+        }
+    }
+
+    private record StateKey(long catalogVersion, String priorityCode) {
+    }
+}
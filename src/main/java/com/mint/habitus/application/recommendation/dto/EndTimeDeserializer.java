@@ -0,0 +1,39 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 시간대 종료 시각 역직렬화 - LocalTime으로 표현할 수 없는 "24:00"은 자정(00:00)으로 읽는다.
+ */
+public class EndTimeDeserializer extends StdDeserializer<LocalTime> {
+
+    private static final String END_OF_DAY = "24:00";
+
+    public EndTimeDeserializer() {
+        super(LocalTime.class);
+    }
+
+    @Override
+    public LocalTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String text = parser.getValueAsString();
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        String trimmed = text.trim();
+        if (trimmed.equals(END_OF_DAY) || trimmed.equals(END_OF_DAY + ":00")) {
+            return LocalTime.MIDNIGHT;
+        }
+        try {
+            return LocalTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            return (LocalTime) context.handleWeirdStringValue(LocalTime.class, trimmed,
+                    "종료 시각 형식이 올바르지 않습니다 (HH:mm, 자정은 24:00)");
+        }
+    }
+}
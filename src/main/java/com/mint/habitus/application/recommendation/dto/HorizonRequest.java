@@ -0,0 +1,31 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HorizonRequest {
+
+    private Long userId;
+    private Map<String, Integer> priorities;
+
+    // 주별 가용 시간 (순서대로 1주차, 2주차, ...)
+    private List<Integer> weeklyAvailableMinutes;
+
+    // 같은 활동을 선택할 수 있는 최대 주 수 (미지정 시 제한 없음)
+    private Integer maxRepeats;
+
+    // 주별 응답에 포함할 필드 (미지정 시 전체)
+    private List<String> fields;
+
+    public ResponseFields responseFields() {
+        return ResponseFields.of(fields);
+    }
+}
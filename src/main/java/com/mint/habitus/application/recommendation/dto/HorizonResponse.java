@@ -0,0 +1,24 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HorizonResponse {
+
+    private Integer maxRepeats;
+    private Integer totalValue;
+
+    // 반복 제한 없이 주마다 따로 계산한 가치의 합과 그 차이 (최적해와의 최대 차이)
+    private Integer upperBound;
+    private Integer optimalityGap;
+
+    // 요청한 주 순서대로 하나씩
+    private List<RecommendationResponse> weeks;
+}
@@ -0,0 +1,37 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import com.mint.habitus.application.recommendation.job.JobLane;
+import com.mint.habitus.application.recommendation.job.JobStatus;
+import com.mint.habitus.application.recommendation.job.RecommendationJob;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationJobResponse {
+
+    private String jobId;
+    private JobStatus status;
+    private JobLane lane;
+    private Instant submittedAt;
+    private Instant finishedAt;
+    private String errorMessage;
+    private RecommendationResponse result;
+
+    public static RecommendationJobResponse from(RecommendationJob job) {
+        return RecommendationJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .lane(job.getLane())
+                .submittedAt(job.getSubmittedAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .result(job.getResult())
+                .build();
+    }
+}
@@ -1,5 +1,10 @@
 package com.mint.habitus.application.recommendation.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.mint.habitus.domain.recommendation.domain.RecommendationObjective;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +17,41 @@ import lombok.NoArgsConstructor;
 @Builder
 public class RecommendationRequest {
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AvailabilityWindowRequest {
+        private DayOfWeek dayOfWeek;
+        private LocalTime startTime;
+
+        // "24:00"은 00:00으로 받아 그날의 끝으로 처리
+        @JsonDeserialize(using = EndTimeDeserializer.class)
+        private LocalTime endTime;
+    }
+
     private Long userId;
     private Integer availableMinutes;
     private Map<String, Integer> priorities;
+
+    // 지정하면 availableMinutes 대신 시간대 단위로 배치
+    private List<AvailabilityWindowRequest> availabilityWindows;
+
+    // 미지정 시 LINEAR (시간대 배치 요청은 LINEAR로 계산)
+    private RecommendationObjective objective;
+
+    // 응답에 포함할 필드 (미지정 시 전체, 예: totalValue, selectedActivities.id)
+    private List<String> fields;
+
+    public boolean hasAvailabilityWindows() {
+        return availabilityWindows != null && !availabilityWindows.isEmpty();
+    }
+
+    public ResponseFields responseFields() {
+        return ResponseFields.of(fields);
+    }
+
+    public boolean isBalanced() {
+        return objective == RecommendationObjective.BALANCED;
+    }
 }
@@ -1,5 +1,8 @@
 package com.mint.habitus.application.recommendation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -7,16 +10,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// fields로 제외한 항목은 null로 두어 직렬화하지 않는다
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class RecommendationResponse {
 
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class RecommendedActivity {
         private Long id;
         private String name;
@@ -26,6 +32,18 @@ public class RecommendationResponse {
         private Map<String, Integer> weightedEffects;
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScheduledSlot {
+        private Long activityId;
+        private String name;
+        private DayOfWeek dayOfWeek;
+        private LocalTime startTime;
+        private LocalTime endTime;
+    }
+
     private Integer totalValue;
     private Integer totalMinutes;
     private Integer remainingMinutes;
@@ -33,4 +51,11 @@ public class RecommendationResponse {
     private Double timeUtilizationRate;
     private Map<String, Integer> totalCapitalGain;
     private List<RecommendedActivity> selectedActivities;
+
+    // 시간대 배치 요청인 경우에만 포함
+    private List<ScheduledSlot> schedule;
+
+    // 균형 목적(BALANCED) 요청인 경우에만 포함: 체감 수익 효용과 보장된 최적해와의 최대 차이
+    private Double balancedUtility;
+    private Double optimalityGap;
 }
@@ -0,0 +1,112 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 추천 응답에 포함할 필드 (미지정 시 전체)
+ * 최상위 필드 이름 또는 "selectedActivities.id"처럼 활동 필드를 지정한다.
+ * selectedActivities만 지정하면 활동의 모든 필드를 포함한다.
+ */
+public final class ResponseFields {
+
+    public static final String TOTAL_VALUE = "totalValue";
+    public static final String TOTAL_MINUTES = "totalMinutes";
+    public static final String REMAINING_MINUTES = "remainingMinutes";
+    public static final String ACTIVITY_COUNT = "activityCount";
+    public static final String TIME_UTILIZATION_RATE = "timeUtilizationRate";
+    public static final String TOTAL_CAPITAL_GAIN = "totalCapitalGain";
+    public static final String SELECTED_ACTIVITIES = "selectedActivities";
+    public static final String SCHEDULE = "schedule";
+    public static final String BALANCED_UTILITY = "balancedUtility";
+    public static final String OPTIMALITY_GAP = "optimalityGap";
+
+    public static final String ACTIVITY_ID = "id";
+    public static final String ACTIVITY_NAME = "name";
+    public static final String ACTIVITY_DURATION = "duration";
+    public static final String ACTIVITY_CALCULATED_VALUE = "calculatedValue";
+    public static final String ACTIVITY_ORIGINAL_EFFECTS = "originalEffects";
+    public static final String ACTIVITY_WEIGHTED_EFFECTS = "weightedEffects";
+
+    private static final Set<String> RESPONSE_FIELDS = Set.of(
+            TOTAL_VALUE, TOTAL_MINUTES, REMAINING_MINUTES, ACTIVITY_COUNT, TIME_UTILIZATION_RATE,
+            TOTAL_CAPITAL_GAIN, SELECTED_ACTIVITIES, SCHEDULE, BALANCED_UTILITY, OPTIMALITY_GAP
+    );
+    private static final Set<String> ACTIVITY_FIELDS = Set.of(
+            ACTIVITY_ID, ACTIVITY_NAME, ACTIVITY_DURATION, ACTIVITY_CALCULATED_VALUE,
+            ACTIVITY_ORIGINAL_EFFECTS, ACTIVITY_WEIGHTED_EFFECTS
+    );
+    private static final String ACTIVITY_PREFIX = SELECTED_ACTIVITIES + ".";
+
+    private static final ResponseFields ALL = new ResponseFields(RESPONSE_FIELDS, ACTIVITY_FIELDS);
+
+    private final Set<String> fields;
+    private final Set<String> activityFields;
+
+    private ResponseFields(Set<String> fields, Set<String> activityFields) {
+        this.fields = fields;
+        this.activityFields = activityFields;
+    }
+
+    public static ResponseFields all() {
+        return ALL;
+    }
+
+    public static ResponseFields of(Collection<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return ALL;
+        }
+
+        Set<String> fields = new TreeSet<>();
+        Set<String> activityFields = new TreeSet<>();
+
+        for (String raw : requested) {
+            String field = raw.trim();
+            if (field.startsWith(ACTIVITY_PREFIX)) {
+                String activityField = field.substring(ACTIVITY_PREFIX.length());
+                if (!ACTIVITY_FIELDS.contains(activityField)) {
+                    throw new IllegalArgumentException("존재하지 않는 활동 필드입니다: " + field);
+                }
+                fields.add(SELECTED_ACTIVITIES);
+                activityFields.add(activityField);
+            } else if (field.equals(SELECTED_ACTIVITIES)) {
+                fields.add(SELECTED_ACTIVITIES);
+                activityFields.addAll(ACTIVITY_FIELDS);
+            } else if (RESPONSE_FIELDS.contains(field)) {
+                fields.add(field);
+            } else if (!field.isEmpty()) {
+                throw new IllegalArgumentException("존재하지 않는 응답 필드입니다: " + field);
+            }
+        }
+
+        if (fields.isEmpty()) {
+            return ALL;
+        }
+        return new ResponseFields(fields, activityFields);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean includesActivity(String field) {
+        return activityFields.contains(field);
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /**
+     * 같은 선택이면 같은 값 (ETag 구분용)
+     */
+    public String getKey() {
+        if (isAll()) {
+            return "*";
+        }
+        StringBuilder key = new StringBuilder(String.join(",", fields));
+        activityFields.forEach(field -> key.append(',').append(ACTIVITY_PREFIX).append(field));
+        return key.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ValueCurveRequest {
+
+    private Long userId;
+    private Map<String, Integer> priorities;
+
+    // 미지정 시 1주일 전체
+    private Integer maxMinutes;
+
+    // 한계 가치를 계산할 가용 시간들과 늘릴 시간 (미지정 시 60분)
+    private List<Integer> points;
+    private Integer deltaMinutes;
+
+    // 곡선 지점 수 상한 (미지정 시 200)
+    private Integer maxPoints;
+}
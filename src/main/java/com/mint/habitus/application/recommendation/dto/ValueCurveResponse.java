@@ -0,0 +1,42 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ValueCurveResponse {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CurvePoint {
+        private Integer minutes;
+        private Integer value;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MarginalGain {
+        private Integer minutes;
+        private Integer value;
+        private Integer deltaMinutes;
+        private Integer gain;
+    }
+
+    private String priorityCode;
+    private Integer maxMinutes;
+    private Integer maxValue;
+
+    // 값이 바뀌는 지점만 포함 (다음 지점 전까지 같은 가치)
+    private List<CurvePoint> breakpoints;
+    private List<MarginalGain> marginalGains;
+}
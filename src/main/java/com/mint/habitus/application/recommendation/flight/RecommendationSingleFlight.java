@@ -0,0 +1,95 @@
+package com.mint.habitus.application.recommendation.flight;
+
+import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일한 (카탈로그 버전, 우선순위 코드, 가용 시간) 요청이 동시에 들어오면
+ * 먼저 들어온 요청만 계산하고 나머지는 그 결과를 공유한다.
+ * 결과를 보관하지 않으므로 캐시가 비어 있거나 카탈로그가 막 바뀐 순간에도 중복 계산을 막는다.
+ */
+@Component
+public class RecommendationSingleFlight {
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<RecommendationResult>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final SingleFlightProperties properties;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public RecommendationSingleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.leaders = meterRegistry.counter("habitus.recommendation.single-flight", "role", "leader");
+        this.followers = meterRegistry.counter("habitus.recommendation.single-flight", "role", "follower");
+        this.timeouts = meterRegistry.counter("habitus.recommendation.single-flight.timeouts");
+    }
+
+    public RecommendationResult execute(FlightKey key, Supplier<RecommendationResult> computation) {
+        if (!properties.isEnabled()) {
+            return computation.get();
+        }
+
+        CompletableFuture<RecommendationResult> flight = new CompletableFuture<>();
+        CompletableFuture<RecommendationResult> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            followers.increment();
+            return await(key, existing);
+        }
+
+        leaders.increment();
+        try {
+            RecommendationResult result = computation.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            // 대기 중인 요청에도 같은 예외 전파
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private RecommendationResult await(FlightKey key, CompletableFuture<RecommendationResult> flight) {
+        try {
+            return flight.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new RecommendationTimeoutException("진행 중인 추천 계산 대기 시간 초과: " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RecommendationTimeoutException("추천 계산 대기 중 인터럽트: " + key);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 진행 중인 계산 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public record FlightKey(long catalogVersion, String priorityCode, int availableMinutes) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.mint.habitus.application.recommendation.flight;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RecommendationTimeoutException extends RuntimeException {
+
+    public RecommendationTimeoutException(String message) {
+        super(message);
+    }
+}
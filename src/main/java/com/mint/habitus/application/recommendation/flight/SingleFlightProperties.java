@@ -0,0 +1,17 @@
+package com.mint.habitus.application.recommendation.flight;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    // 진행 중인 계산을 기다리는 최대 시간
+    private Duration timeout = Duration.ofSeconds(5);
+}
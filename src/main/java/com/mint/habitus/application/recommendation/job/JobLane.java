@@ -0,0 +1,11 @@
+package com.mint.habitus.application.recommendation.job;
+
+/**
+ * 작업 우선순위 레인 (선언 순서대로 먼저 처리)
+ */
+public enum JobLane {
+
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,12 @@
+package com.mint.habitus.application.recommendation.job;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String jobId) {
+        super("추천 작업을 찾을 수 없습니다: " + jobId);
+    }
+}
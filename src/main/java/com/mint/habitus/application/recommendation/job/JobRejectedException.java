@@ -0,0 +1,12 @@
+package com.mint.habitus.application.recommendation.job;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class JobRejectedException extends RuntimeException {
+
+    public JobRejectedException(int pending) {
+        super("대기 중인 추천 작업이 너무 많습니다: " + pending);
+    }
+}
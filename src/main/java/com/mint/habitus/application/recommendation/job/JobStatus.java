@@ -0,0 +1,13 @@
+package com.mint.habitus.application.recommendation.job;
+
+public enum JobStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
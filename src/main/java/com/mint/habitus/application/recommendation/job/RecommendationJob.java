@@ -0,0 +1,52 @@
+package com.mint.habitus.application.recommendation.job;
+
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+
+/**
+ * 비동기 추천 작업
+ */
+@Getter
+public class RecommendationJob {
+
+    private final String id;
+    private final JobLane lane;
+    private final Instant submittedAt;
+    private final CompletableFuture<RecommendationResponse> completion = new CompletableFuture<>();
+
+    private volatile JobStatus status = JobStatus.PENDING;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    public RecommendationJob(String id, JobLane lane, Instant submittedAt) {
+        this.id = id;
+        this.lane = lane;
+        this.submittedAt = submittedAt;
+    }
+
+    void start() {
+        status = JobStatus.RUNNING;
+    }
+
+    void complete(RecommendationResponse response, Instant now) {
+        finishedAt = now;
+        status = JobStatus.COMPLETED;
+        completion.complete(response);
+    }
+
+    void fail(Throwable error, Instant now) {
+        finishedAt = now;
+        errorMessage = error.getMessage();
+        status = JobStatus.FAILED;
+        completion.completeExceptionally(error);
+    }
+
+    /**
+     * 완료된 경우에만 결과 반환
+     */
+    public RecommendationResponse getResult() {
+        return status == JobStatus.COMPLETED ? completion.join() : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mint.habitus.application.recommendation.job;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.job")
+public class RecommendationJobProperties {
+
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    // 대기 중인 작업이 이 수를 넘으면 제출 거부
+    private int queueCapacity = 1_000;
+
+    // 완료된 결과 보관 기간과 최대 보관 수
+    private Duration resultTtl = Duration.ofMinutes(10);
+    private int maxRetainedJobs = 10_000;
+
+    // long-poll 최대 대기 시간
+    private Duration maxWait = Duration.ofSeconds(25);
+}
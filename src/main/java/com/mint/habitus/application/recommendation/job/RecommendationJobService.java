@@ -0,0 +1,191 @@
+package com.mint.habitus.application.recommendation.job;
+
+import com.mint.habitus.application.recommendation.ActivityRecommendationService;
+import com.mint.habitus.application.recommendation.dto.RecommendationRequest;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 무거운 추천 계산을 HTTP 요청과 분리하여 제한된 워커 풀에서 실행
+ * 레인 우선순위 → 제출 순서로 처리하고, 완료된 결과는 TTL과 최대 개수 기준으로 제거한다.
+ * 대기 슬롯은 제출 시 선점하고 워커가 작업을 꺼낼 때 반납하므로 동시 제출에서도 대기 작업 수가 용량을 넘지 않는다.
+ */
+@Slf4j
+@Service
+public class RecommendationJobService {
+
+    private final Function<RecommendationRequest, RecommendationResponse> recommender;
+    private final RecommendationJobProperties properties;
+    private final Clock clock;
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore pendingSlots;
+    private final Map<String, RecommendationJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<RecommendationJob> finishedOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public RecommendationJobService(
+            ActivityRecommendationService recommendationService,
+            RecommendationJobProperties properties
+    ) {
+        this(recommendationService::recommendWeeklyActivities, properties, Clock.systemUTC());
+    }
+
+    RecommendationJobService(
+            Function<RecommendationRequest, RecommendationResponse> recommender,
+            RecommendationJobProperties properties,
+            Clock clock
+    ) {
+        this.recommender = recommender;
+        this.properties = properties;
+        this.clock = clock;
+        this.pendingSlots = new Semaphore(properties.getQueueCapacity());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> Thread.ofPlatform()
+                        .name("recommendation-job-" + threadCount.incrementAndGet())
+                        .daemon(true)
+                        .unstarted(runnable)
+        );
+    }
+
+    public RecommendationJob submit(RecommendationRequest request, JobLane lane) {
+        if (!pendingSlots.tryAcquire()) {
+            throw new JobRejectedException(properties.getQueueCapacity());
+        }
+
+        RecommendationJob job = new RecommendationJob(UUID.randomUUID().toString(), lane, clock.instant());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(new PrioritizedTask(lane, sequence.getAndIncrement(), () -> {
+                pendingSlots.release();
+                run(job, request);
+            }));
+        } catch (RejectedExecutionException e) {
+            pendingSlots.release();
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        log.debug("추천 작업 제출 - jobId: {}, lane: {}, 대기: {}", job.getId(), lane, pendingCount());
+        return job;
+    }
+
+    /**
+     * 워커가 아직 꺼내지 않은 작업 수
+     */
+    int pendingCount() {
+        return properties.getQueueCapacity() - pendingSlots.availablePermits();
+    }
+
+    public RecommendationJob getJob(String jobId) {
+        RecommendationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new JobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 작업이 끝나거나 대기 시간이 지나면 작업 상태를 반환 (long-poll)
+     */
+    public CompletableFuture<RecommendationJob> await(String jobId, Duration wait) {
+        RecommendationJob job = getJob(jobId);
+        if (job.getStatus().isFinished() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(job);
+        }
+
+        Duration bounded = wait.compareTo(properties.getMaxWait()) > 0 ? properties.getMaxWait() : wait;
+        return job.getCompletion()
+                .handle((response, error) -> job)
+                .completeOnTimeout(job, bounded.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void run(RecommendationJob job, RecommendationRequest request) {
+        job.start();
+        try {
+            job.complete(recommender.apply(request), clock.instant());
+        } catch (RuntimeException e) {
+            log.warn("추천 작업 실패 - jobId: {}: {}", job.getId(), e.getMessage());
+            job.fail(e, clock.instant());
+        } finally {
+            finishedOrder.add(job);
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 최대 보관 수를 넘으면 가장 먼저 끝난 작업부터 제거
+     */
+    private void evictOverflow() {
+        while (jobs.size() > properties.getMaxRetainedJobs()) {
+            RecommendationJob oldest = finishedOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            jobs.remove(oldest.getId());
+        }
+    }
+
+    /**
+     * TTL이 지난 완료 작업 제거
+     */
+    @Scheduled(fixedDelayString = "${habitus.job.eviction-interval:PT30S}")
+    public void evictExpired() {
+        Instant threshold = clock.instant().minus(properties.getResultTtl());
+
+        RecommendationJob head;
+        while ((head = finishedOrder.peek()) != null && head.getFinishedAt().isBefore(threshold)) {
+            finishedOrder.remove(head);
+            jobs.remove(head.getId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record PrioritizedTask(JobLane lane, long sequence, Runnable delegate)
+            implements Runnable, Comparable<PrioritizedTask> {
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int byLane = lane.compareTo(other.lane);
+            return byLane != 0 ? byLane : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mint.habitus.application.recommendation.metrics;
+
+import com.mint.habitus.domain.recommendation.domain.DpBufferPool;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DP 배열 풀 적중/미스/정리 횟수와 보관 중인 메모리
+ */
+@Component
+@RequiredArgsConstructor
+public class DpBufferPoolMetrics implements MeterBinder {
+
+    private final OptimalActivityFinder optimalActivityFinder;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        DpBufferPool pool = optimalActivityFinder.getBufferPool();
+
+        FunctionCounter.builder("habitus.dp.buffer.pool.hits", pool, DpBufferPool::getHitCount)
+                .register(registry);
+        FunctionCounter.builder("habitus.dp.buffer.pool.misses", pool, DpBufferPool::getMissCount)
+                .register(registry);
+        FunctionCounter.builder("habitus.dp.buffer.pool.trims", pool, DpBufferPool::getTrimCount)
+                .register(registry);
+        Gauge.builder("habitus.dp.buffer.pool.retained", pool, DpBufferPool::getRetainedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.mint.habitus.application.recommendation.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * readiness 그룹에 포함되어 워밍업 완료 전에는 트래픽을 받지 않도록 한다.
+ */
+@Component("recommendationWarmup")
+@RequiredArgsConstructor
+public class RecommendationWarmupHealthIndicator implements HealthIndicator {
+
+    private final RecommendationWarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        WarmupStatus status = warmupRunner.getStatus();
+        Health.Builder builder = status.isComplete() ? Health.up() : Health.outOfService();
+
+        return builder
+                .withDetail("iterations", status.getIterations())
+                .withDetail("averageLatencyMicros", status.getAverageLatencyNanos() / 1_000)
+                .build();
+    }
+}
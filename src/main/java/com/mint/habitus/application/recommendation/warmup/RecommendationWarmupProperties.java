@@ -0,0 +1,25 @@
+package com.mint.habitus.application.recommendation.warmup;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.warmup")
+public class RecommendationWarmupProperties {
+
+    private boolean enabled = true;
+
+    // 합성 카탈로그 크기
+    private int catalogSize = 200;
+
+    // 최소 반복 후 최근 구간 평균 지연이 목표 이하이면 완료
+    private int minIterations = 200;
+    private Duration targetLatency = Duration.ofMillis(5);
+
+    // 목표 지연에 도달하지 못해도 최대 반복 또는 제한 시간이 지나면 완료
+    private int maxIterations = 2000;
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,147 @@
+package com.mint.habitus.application.recommendation.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mint.habitus.application.recommendation.ActivityRecommendationService;
+import com.mint.habitus.application.recommendation.dto.RecommendationRequest;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합성 카탈로그와 우선순위로 추천 파이프라인(DP, 가치 계산, JSON 직렬화)을 반복 실행하여
+ * JIT 컴파일을 유도한다. 완료 전까지 readiness는 OUT_OF_SERVICE로 보고된다.
+ * 시작 전에 실제 카탈로그를 한 번 읽어 스냅샷(메모리, 파일)을 채우므로 첫 요청이 DB 로드를 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationWarmupRunner {
+
+    private static final int LATENCY_WINDOW = 50;
+
+    private final RecommendationWarmupProperties properties;
+    private final ActivityRecommendationService recommendationService;
+    private final ActivityRepository activityRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile WarmupStatus status = WarmupStatus.pending();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            status = WarmupStatus.skipped();
+            return;
+        }
+
+        Thread.ofPlatform()
+                .name("recommendation-warmup")
+                .daemon(true)
+                .start(this::run);
+    }
+
+    public WarmupStatus getStatus() {
+        return status;
+    }
+
+    void run() {
+        loadCatalog();
+
+        SplittableRandom random = new SplittableRandom(7);
+        List<Activity> catalog = createSyntheticCatalog(random, properties.getCatalogSize());
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getTimeout().toNanos();
+        long[] window = new long[LATENCY_WINDOW];
+        long windowSum = 0;
+        int iterations = 0;
+
+        try {
+            while (iterations < properties.getMaxIterations() && System.nanoTime() < deadline) {
+                long start = System.nanoTime();
+                RecommendationResponse response = recommendationService.recommend(randomRequest(random), catalog);
+                objectMapper.writeValueAsBytes(response);
+                long elapsed = System.nanoTime() - start;
+
+                int slot = iterations % LATENCY_WINDOW;
+                windowSum += elapsed - window[slot];
+                window[slot] = elapsed;
+                iterations++;
+
+                long averageNanos = windowSum / Math.min(iterations, LATENCY_WINDOW);
+                status = WarmupStatus.running(iterations, averageNanos);
+
+                if (iterations >= properties.getMinIterations()
+                        && averageNanos <= properties.getTargetLatency().toNanos()) {
+                    break;
+                }
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("워밍업 중 오류 - 워밍업을 종료하고 트래픽 수신: {}", e.getMessage());
+        }
+
+        status = status.complete((System.nanoTime() - startedAt) / 1_000_000);
+        log.info("워밍업 완료 - 반복: {}회, 최근 평균: {}μs, 소요: {}ms",
+                status.getIterations(), status.getAverageLatencyNanos() / 1_000, status.getElapsedMillis());
+    }
+
+    private void loadCatalog() {
+        try {
+            ActivityCatalog catalog = activityRepository.findCatalog();
+            log.info("워밍업 카탈로그 로드 - 버전: {}, 활동: {}개", catalog.getVersion(), catalog.size());
+        } catch (RuntimeException e) {
+            log.warn("워밍업 카탈로그 로드 실패 - 첫 조회 시 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실제 카탈로그와 비슷한 분포의 합성 활동 (10~180분, 효과 0~5)
+     */
+    private List<Activity> createSyntheticCatalog(SplittableRandom random, int size) {
+        List<Activity> activities = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+            for (CapitalType type : CapitalType.values()) {
+                effects.put(type, random.nextInt(3) == 0 ? random.nextInt(1, 6) : 0);
+            }
+
+            activities.add(Activity.of(
+                    (long) -(i + 1),
+                    "warmup-" + i,
+                    null,
+                    random.nextInt(1, 19) * 10,
+                    0,
+                    ActivityEffects.of(effects)
+            ));
+        }
+
+        return activities;
+    }
+
+    private RecommendationRequest randomRequest(SplittableRandom random) {
+        Map<String, Integer> priorities = new HashMap<>();
+        for (CapitalType type : CapitalType.values()) {
+            priorities.put(type.name(), random.nextInt(1, 4));
+        }
+
+        return RecommendationRequest.builder()
+                .availableMinutes(random.nextInt(6, 301) * 10)
+                .priorities(priorities)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.mint.habitus.application.recommendation.warmup;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 워밍업 진행 상태
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WarmupStatus {
+
+    private final boolean complete;
+    private final int iterations;
+    private final long averageLatencyNanos;
+    private final long elapsedMillis;
+
+    public static WarmupStatus pending() {
+        return new WarmupStatus(false, 0, 0, 0);
+    }
+
+    public static WarmupStatus skipped() {
+        return new WarmupStatus(true, 0, 0, 0);
+    }
+
+    public static WarmupStatus running(int iterations, long averageLatencyNanos) {
+        return new WarmupStatus(false, iterations, averageLatencyNanos, 0);
+    }
+
+    public WarmupStatus complete(long elapsedMillis) {
+        return new WarmupStatus(true, iterations, averageLatencyNanos, elapsedMillis);
+    }
+}
@@ -15,6 +15,12 @@ import lombok.Getter;
 public class Activity {
 
     private final Long id;
+
+    // 사용자 전용 활동의 소유자 (전역 카탈로그 활동이면 null)
+    private final Long ownerId;
+
+    // 같은 그룹(예: 운동 30분/60분)에서는 최대 하나만 추천 (그룹이 없으면 null)
+    private final String groupCode;
     private final String name;
     private final String description;
     private final int durationMinutes;
@@ -32,7 +38,50 @@ public class Activity {
             ActivityEffects effects
     ) {
         validateBasicInfo(name, durationMinutes, cost);
-        return new Activity(id, name, description, durationMinutes, cost, effects);
+        return new Activity(id, null, null, name, description, durationMinutes, cost, effects);
+    }
+
+    /**
+     * 사용자 전용 활동
+     */
+    public static Activity ofUser(
+            Long id,
+            Long ownerId,
+            String name,
+            String description,
+            int durationMinutes,
+            int cost,
+            ActivityEffects effects
+    ) {
+        if (ownerId == null) {
+            throw new IllegalArgumentException("사용자 활동의 소유자는 필수입니다.");
+        }
+        validateBasicInfo(name, durationMinutes, cost);
+        return new Activity(id, ownerId, null, name, description, durationMinutes, cost, effects);
+    }
+
+    /**
+     * 그룹에 속한 활동으로 변환
+     */
+    public Activity inGroup(String groupCode) {
+        if (groupCode != null && groupCode.isBlank()) {
+            throw new IllegalArgumentException("그룹 코드는 공백일 수 없습니다.");
+        }
+        return new Activity(id, ownerId, groupCode, name, description, durationMinutes, cost, effects);
+    }
+
+    /**
+     * 그룹 소속 여부
+     */
+    public boolean isGrouped() {
+        return groupCode != null;
+    }
+
+    /**
+     * 전역 카탈로그 활동 여부
+     */
+    public boolean isGlobal() {
+        return ownerId == null;
     }
 
     /**
@@ -0,0 +1,77 @@
+package com.mint.habitus.domain.activity.domain;
+
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전역 카탈로그 탐색 조건 (Keyset 페이지네이션)
+ * 정렬 키: 자본 필터가 있으면 (효과, id), 시간 필터만 있으면 (시간, id), 없으면 id
+ * 커서는 이전 페이지 마지막 행의 (정렬 값, id)이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ActivityBrowseCondition {
+
+    public static final int MAX_LIMIT = 500;
+
+    private final Integer minDuration;
+    private final Integer maxDuration;
+    private final CapitalType capital;
+    private final Integer minEffect;
+    private final Integer cursorValue;
+    private final Long cursorId;
+    private final int limit;
+
+    public static ActivityBrowseCondition of(
+            Integer minDuration,
+            Integer maxDuration,
+            CapitalType capital,
+            Integer minEffect,
+            Integer cursorValue,
+            Long cursorId,
+            int limit
+    ) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_LIMIT + " 사이여야 합니다: " + limit);
+        }
+        if (minEffect != null && capital == null) {
+            throw new IllegalArgumentException("효과 조건에는 자본 종류가 필요합니다.");
+        }
+        if (minDuration != null && maxDuration != null && minDuration > maxDuration) {
+            throw new IllegalArgumentException("최소 시간이 최대 시간보다 클 수 없습니다: " + minDuration + " > " + maxDuration);
+        }
+
+        return new ActivityBrowseCondition(minDuration, maxDuration, capital, minEffect, cursorValue, cursorId, limit);
+    }
+
+    public SortKey getSortKey() {
+        if (capital != null) {
+            return SortKey.EFFECT;
+        }
+        if (minDuration != null || maxDuration != null) {
+            return SortKey.DURATION;
+        }
+        return SortKey.ID;
+    }
+
+    /**
+     * 정렬 키에 해당하는 활동의 값 (다음 페이지 커서)
+     */
+    public int sortValueOf(Activity activity) {
+        return switch (getSortKey()) {
+            case EFFECT -> activity.getEffectOn(capital);
+            case DURATION -> activity.getDurationMinutes();
+            case ID -> 0;
+        };
+    }
+
+    public boolean hasCursor() {
+        return cursorId != null;
+    }
+
+    public enum SortKey {
+        ID, DURATION, EFFECT
+    }
+}
@@ -0,0 +1,30 @@
+package com.mint.habitus.domain.activity.domain;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 특정 버전의 활동 카탈로그 스냅샷
+ */
+@Getter
+public final class ActivityCatalog {
+
+    private final long version;
+    private final List<Activity> activities;
+
+    private ActivityCatalog(long version, List<Activity> activities) {
+        this.version = version;
+        this.activities = List.copyOf(activities);
+    }
+
+    public static ActivityCatalog of(long version, List<Activity> activities) {
+        if (activities == null) {
+            throw new IllegalArgumentException("활동 목록은 null일 수 없습니다.");
+        }
+        return new ActivityCatalog(version, activities);
+    }
+
+    public int size() {
+        return activities.size();
+    }
+}
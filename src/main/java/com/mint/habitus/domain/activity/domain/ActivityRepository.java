@@ -1,15 +1,54 @@
 package com.mint.habitus.domain.activity.domain;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ActivityRepository {
 
     List<Activity> findAll();
 
+    /**
+     * 조건에 맞는 전역 카탈로그 활동을 커서 다음부터 limit + 1개 조회 (다음 페이지 존재 확인용)
+     */
+    List<Activity> browse(ActivityBrowseCondition condition);
+
+    /**
+     * 버전이 부여된 전역 카탈로그 (스냅샷이 유효하면 DB를 조회하지 않음)
+     */
+    ActivityCatalog findCatalog();
+
+    /**
+     * 사용자 전용 활동 (전역 카탈로그 버전에 영향 없음)
+     */
+    List<Activity> findByOwnerId(Long ownerId);
+
+    /**
+     * 전용 활동을 가진 사용자 ID
+     */
+    Set<Long> findOwnerIds();
+
+    /**
+     * 사용자 전용 활동 목록의 변경 식별자 (활동을 읽지 않는 집계 조회)
+     */
+    OwnedActivityRevision findOwnedRevision(Long ownerId);
+
+    /**
+     * 현재 카탈로그 버전 (메모리 또는 단일 행 조회)
+     */
+    long findCatalogVersion();
+
     Optional<Activity> findById(Long id);
 
     Activity save(Activity activity);
 
     void delete(Long id);
+
+    /**
+     * 스트리밍 일괄 저장 (JDBC 배치, 카탈로그 버전은 한 번만 증가)
+     *
+     * @return 저장한 활동 수
+     */
+    int saveAll(Iterator<Activity> activities);
 }
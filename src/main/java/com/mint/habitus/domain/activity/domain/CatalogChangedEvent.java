@@ -0,0 +1,7 @@
+package com.mint.habitus.domain.activity.domain;
+
+/**
+ * 카탈로그 버전이 바뀌었음을 알리는 이벤트 (다른 노드의 변경 포함)
+ */
+public record CatalogChangedEvent(long previousVersion, long currentVersion) {
+}
@@ -0,0 +1,8 @@
+package com.mint.habitus.domain.activity.domain;
+
+/**
+ * 사용자 전용 활동 목록의 변경 식별자
+ * 사용자 활동은 추가/삭제만 가능하므로 (개수, 최대 ID)가 바뀌지 않으면 목록도 같다.
+ */
+public record OwnedActivityRevision(long count, long latestId) {
+}
@@ -0,0 +1,7 @@
+package com.mint.habitus.domain.activity.domain;
+
+/**
+ * 사용자 전용 활동이 추가/삭제되었음을 알리는 이벤트 (전역 카탈로그 버전은 그대로)
+ */
+public record UserActivitiesChangedEvent(Long userId) {
+}
@@ -0,0 +1,21 @@
+package com.mint.habitus.domain.history.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 제공된 추천 이력 Value Object
+ */
+@Getter
+@Builder
+public class RecommendationHistory {
+
+    private final Long userId;
+    private final String priorityCode;
+    private final int availableMinutes;
+    private final List<Long> selectedActivityIds;
+    private final int totalValue;
+    private final LocalDateTime recommendedAt;
+}
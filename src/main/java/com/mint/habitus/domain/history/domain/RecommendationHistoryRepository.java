@@ -0,0 +1,14 @@
+package com.mint.habitus.domain.history.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RecommendationHistoryRepository {
+
+    /**
+     * JDBC 배치로 일괄 저장
+     */
+    void saveAll(List<RecommendationHistory> histories);
+
+    List<RecommendationHistory> findByUserIdSince(Long userId, LocalDateTime since);
+}
@@ -0,0 +1,51 @@
+package com.mint.habitus.domain.plan.domain;
+
+import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장된 프로필로 미리 계산한 사용자별 주간 추천
+ * 계산에 사용한 카탈로그 버전을 함께 보관하여 이후 카탈로그 변경 여부를 판단한다.
+ */
+@Getter
+@Builder
+public class WeeklyPlan {
+
+    private final Long userId;
+    private final long catalogVersion;
+    private final String priorityCode;
+    private final int availableMinutes;
+    private final List<Long> selectedActivityIds;
+    private final int totalValue;
+    private final int totalMinutes;
+    private final LocalDateTime computedAt;
+
+    public static WeeklyPlan of(
+            Long userId,
+            long catalogVersion,
+            String priorityCode,
+            int availableMinutes,
+            RecommendationResult result,
+            LocalDateTime computedAt
+    ) {
+        return WeeklyPlan.builder()
+                .userId(userId)
+                .catalogVersion(catalogVersion)
+                .priorityCode(priorityCode)
+                .availableMinutes(availableMinutes)
+                .selectedActivityIds(result.getSelectedActivities().stream()
+                        .map(selected -> selected.getActivity().getId())
+                        .toList())
+                .totalValue(result.getTotalValue())
+                .totalMinutes(result.getTotalMinutes())
+                .computedAt(computedAt)
+                .build();
+    }
+
+    public boolean isStale(long currentCatalogVersion) {
+        return catalogVersion != currentCatalogVersion;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mint.habitus.domain.plan.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WeeklyPlanRepository {
+
+    /**
+     * 사용자별로 기존 계획을 대체 (JDBC 배치, 한 트랜잭션)
+     */
+    void saveAll(List<WeeklyPlan> plans);
+
+    Optional<WeeklyPlan> findByUserId(Long userId);
+}
@@ -36,6 +36,31 @@ public class Priority {
         }
     }
 
+    /**
+     * 자본 순서(CapitalType)대로 가중치를 나열한 정규화 코드 (예: "3111111")
+     * 가능한 코드는 3^7 = 2,187가지
+     */
+    public static Priority fromCode(String code) {
+        CapitalType[] types = CapitalType.values();
+        if (code == null || code.length() != types.length) {
+            throw new IllegalArgumentException("우선순위 코드는 " + types.length + "자리여야 합니다: " + code);
+        }
+
+        Map<CapitalType, PriorityLevel> priorities = new EnumMap<>(CapitalType.class);
+        for (int i = 0; i < types.length; i++) {
+            priorities.put(types[i], PriorityLevel.fromWeight(Character.digit(code.charAt(i), 10)));
+        }
+        return new Priority(priorities);
+    }
+
+    public String getCode() {
+        StringBuilder code = new StringBuilder(CapitalType.values().length);
+        for (CapitalType type : CapitalType.values()) {
+            code.append(getWeight(type));
+        }
+        return code.toString();
+    }
+
     public int getWeight(CapitalType type) {
         return priorities.getOrDefault(type, PriorityLevel.LOW).getWeight();
     }
@@ -0,0 +1,46 @@
+package com.mint.habitus.domain.priority.domain;
+
+import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자가 저장한 우선순위와 주간 가용 시간
+ * 같은 (우선순위 코드, 가용 시간)의 사용자는 같은 전역 카탈로그 추천을 받는다.
+ */
+@Getter
+@Builder
+public class PriorityProfile {
+
+    private final Long userId;
+    private final String priorityCode;
+    private final int availableMinutes;
+    private final LocalDateTime updatedAt;
+
+    public static PriorityProfile of(
+            Long userId,
+            Priority priority,
+            TimeConstraint timeConstraint,
+            LocalDateTime updatedAt
+    ) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+
+        return PriorityProfile.builder()
+                .userId(userId)
+                .priorityCode(priority.getCode())
+                .availableMinutes(timeConstraint.getTotalMinutes())
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    public Priority toPriority() {
+        return Priority.fromCode(priorityCode);
+    }
+
+    public TimeConstraint toTimeConstraint() {
+        return TimeConstraint.of(availableMinutes);
+    }
+}
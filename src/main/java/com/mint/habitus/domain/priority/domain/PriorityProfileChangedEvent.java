@@ -0,0 +1,7 @@
+package com.mint.habitus.domain.priority.domain;
+
+/**
+ * 사용자의 우선순위 프로필(우선순위 코드, 가용 시간)이 저장되었음을 알리는 이벤트
+ */
+public record PriorityProfileChangedEvent(Long userId, String priorityCode, int availableMinutes) {
+}
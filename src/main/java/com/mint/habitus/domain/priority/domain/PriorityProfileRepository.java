@@ -0,0 +1,21 @@
+package com.mint.habitus.domain.priority.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PriorityProfileRepository {
+
+    PriorityProfile save(PriorityProfile profile);
+
+    Optional<PriorityProfile> findByUserId(Long userId);
+
+    /**
+     * 서로 다른 (우선순위 코드, 가용 시간) 묶음과 사용자 수 (사용자를 읽지 않는 집계 조회)
+     */
+    List<ProfileGroup> findGroups();
+
+    /**
+     * 묶음에 속한 사용자 ID를 afterUserId 다음부터 오름차순으로 limit개 조회
+     */
+    List<Long> findUserIds(ProfileGroup group, long afterUserId, int limit);
+}
@@ -0,0 +1,7 @@
+package com.mint.habitus.domain.priority.domain;
+
+/**
+ * 같은 (우선순위 코드, 가용 시간)을 저장한 사용자 묶음
+ */
+public record ProfileGroup(String priorityCode, int availableMinutes, long userCount) {
+}
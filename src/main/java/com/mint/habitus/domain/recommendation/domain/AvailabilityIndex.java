@@ -0,0 +1,70 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시간대별 남은 여유 시간을 정렬해 두는 인덱스
+ * 활동 길이 이상 남은 시간대 중 가장 작은 곳(best-fit)을 O(log m)에 찾는다.
+ */
+class AvailabilityIndex {
+
+    private final TreeMap<Integer, Deque<Slot>> slotsByFree = new TreeMap<>();
+
+    AvailabilityIndex(List<AvailabilityWindow> windows) {
+        for (AvailabilityWindow window : windows) {
+            add(new Slot(window.getStartMinute(), window.getEndMinute()));
+        }
+    }
+
+    /**
+     * 활동을 배치하고 시작 시각 반환 (들어갈 시간대가 없으면 -1)
+     */
+    int place(int durationMinutes) {
+        Map.Entry<Integer, Deque<Slot>> entry = slotsByFree.ceilingEntry(durationMinutes);
+        if (entry == null) {
+            return -1;
+        }
+
+        Slot slot = entry.getValue().poll();
+        if (entry.getValue().isEmpty()) {
+            slotsByFree.remove(entry.getKey());
+        }
+
+        int start = slot.nextStart;
+        slot.nextStart += durationMinutes;
+        if (slot.free() > 0) {
+            add(slot);
+        }
+        return start;
+    }
+
+    /**
+     * 가장 큰 남은 여유 시간
+     */
+    int largestFree() {
+        return slotsByFree.isEmpty() ? 0 : slotsByFree.lastKey();
+    }
+
+    private void add(Slot slot) {
+        slotsByFree.computeIfAbsent(slot.free(), ignored -> new ArrayDeque<>()).add(slot);
+    }
+
+    private static final class Slot {
+
+        private int nextStart;
+        private final int end;
+
+        private Slot(int nextStart, int end) {
+            this.nextStart = nextStart;
+            this.end = end;
+        }
+
+        private int free() {
+            return end - nextStart;
+        }
+    }
+}
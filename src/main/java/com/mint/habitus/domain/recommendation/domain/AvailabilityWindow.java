@@ -0,0 +1,72 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 주중 가용 시간대 Value Object (월요일 00:00 기준 분 단위, [start, end))
+ */
+@Getter
+@EqualsAndHashCode
+public class AvailabilityWindow implements Comparable<AvailabilityWindow> {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WEEKLY_MINUTES = 7 * MINUTES_PER_DAY;
+
+    private final int startMinute;
+    private final int endMinute;
+
+    private AvailabilityWindow(int startMinute, int endMinute) {
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    public static AvailabilityWindow of(int startMinute, int endMinute) {
+        validate(startMinute, endMinute);
+        return new AvailabilityWindow(startMinute, endMinute);
+    }
+
+    /**
+     * 종료 시각 00:00은 그날의 24:00(자정)으로 본다. (예: 일요일 22:00~00:00은 한 주의 마지막 2시간)
+     */
+    public static AvailabilityWindow of(DayOfWeek day, LocalTime start, LocalTime end) {
+        int dayOffset = (day.getValue() - 1) * MINUTES_PER_DAY;
+        int endOfDay = end.equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : toMinuteOfDay(end);
+        return of(dayOffset + toMinuteOfDay(start), dayOffset + endOfDay);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static void validate(int startMinute, int endMinute) {
+        if (startMinute < 0 || endMinute > WEEKLY_MINUTES) {
+            throw new IllegalArgumentException("가용 시간대는 한 주 안에 있어야 합니다: " + startMinute + "~" + endMinute);
+        }
+        if (startMinute >= endMinute) {
+            throw new IllegalArgumentException("가용 시간대의 종료는 시작 이후여야 합니다: " + startMinute + "~" + endMinute);
+        }
+    }
+
+    public int getLengthMinutes() {
+        return endMinute - startMinute;
+    }
+
+    /**
+     * 겹치거나 맞닿은 시간대인지
+     */
+    public boolean touches(AvailabilityWindow other) {
+        return startMinute <= other.endMinute && other.startMinute <= endMinute;
+    }
+
+    public AvailabilityWindow merge(AvailabilityWindow other) {
+        return new AvailabilityWindow(Math.min(startMinute, other.startMinute), Math.max(endMinute, other.endMinute));
+    }
+
+    @Override
+    public int compareTo(AvailabilityWindow other) {
+        return Integer.compare(startMinute, other.startMinute);
+    }
+}
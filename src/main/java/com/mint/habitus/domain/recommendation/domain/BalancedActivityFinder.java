@@ -0,0 +1,135 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.priority.domain.Priority;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 체감 수익 기반 균형 목적 최적화 Domain Service
+ * 목적: Σ 자본별 (우선순위 가중치 × f(누적 효과)), f는 오목 구간 선형 함수
+ *
+ * 자본 간 분리되지 않아 DP를 바로 쓸 수 없으므로 선형화 지점을 옮겨가며(Frank-Wolfe) 선형 DP를 반복한다.
+ * 오목 함수는 접선 아래에 있으므로 각 반복의 선형 DP 최적값 + 상수가 효용 상한이 되며,
+ * 상한과 최선 효용의 차이가 허용 오차 이하가 되거나 반복 한도에 도달하면 종료한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalancedActivityFinder {
+
+    private static final int MAX_ITERATIONS = 12;
+    private static final double RELATIVE_GAP_TOLERANCE = 0.01;
+    private static final CapitalType[] CAPITAL_TYPES = CapitalType.values();
+
+    private final OptimalActivityFinder optimalActivityFinder;
+
+    public BalancedRecommendation find(List<Activity> activities, Priority priority, TimeConstraint timeConstraint) {
+        return find(activities, priority, timeConstraint, DiminishingReturns.defaultReturns());
+    }
+
+    public BalancedRecommendation find(
+            List<Activity> activities,
+            Priority priority,
+            TimeConstraint timeConstraint,
+            DiminishingReturns returns
+    ) {
+        // 선형화 지점: 지금까지 선택한 조합들의 누적 효과 이동 평균
+        double[] point = new double[CAPITAL_TYPES.length];
+
+        RecommendationResult best = RecommendationResult.empty(timeConstraint.getTotalMinutes());
+        double bestUtility = 0;
+        double upperBound = Double.POSITIVE_INFINITY;
+        int iterations = 0;
+
+        while (iterations < MAX_ITERATIONS) {
+            int[] slopes = new int[CAPITAL_TYPES.length];
+            double constant = 0;
+
+            for (int c = 0; c < CAPITAL_TYPES.length; c++) {
+                int weight = priority.getWeight(CAPITAL_TYPES[c]);
+                int slope = returns.slopeAt(point[c]);
+                slopes[c] = weight * slope;
+                constant += weight * (returns.utility(point[c]) - slope * point[c]);
+            }
+
+            RecommendationResult candidate = optimalActivityFinder.find(
+                    activities, effects -> linearized(effects, slopes), timeConstraint);
+            iterations++;
+
+            // 선형화 목적의 최댓값 + 상수 ≥ 모든 조합의 실제 효용
+            upperBound = Math.min(upperBound, constant + candidate.getTotalValue());
+
+            double[] gains = gains(candidate);
+            double utility = utility(gains, priority, returns);
+            if (utility > bestUtility || best.getSelectedActivities().isEmpty()) {
+                best = candidate;
+                bestUtility = utility;
+            }
+
+            if (upperBound - bestUtility <= RELATIVE_GAP_TOLERANCE * Math.max(bestUtility, 1)) {
+                break;
+            }
+
+            double stepSize = 2.0 / (iterations + 1);
+            for (int c = 0; c < CAPITAL_TYPES.length; c++) {
+                point[c] += stepSize * (gains[c] - point[c]);
+            }
+        }
+
+        log.debug("균형 최적화 완료 - 반복: {}회, 효용: {}, 상한: {}", iterations, bestUtility, upperBound);
+
+        return BalancedRecommendation.builder()
+                .result(withLinearValues(best, priority))
+                .utility(bestUtility)
+                .upperBound(Math.max(upperBound, bestUtility))
+                .iterations(iterations)
+                .build();
+    }
+
+    private static int linearized(ActivityEffects effects, int[] slopes) {
+        int value = 0;
+        for (int c = 0; c < CAPITAL_TYPES.length; c++) {
+            value += effects.getEffect(CAPITAL_TYPES[c]) * slopes[c];
+        }
+        return value;
+    }
+
+    private static double[] gains(RecommendationResult result) {
+        double[] gains = new double[CAPITAL_TYPES.length];
+        Map<CapitalType, Integer> totals = result.getTotalCapitalGains();
+        for (int c = 0; c < CAPITAL_TYPES.length; c++) {
+            gains[c] = totals.getOrDefault(CAPITAL_TYPES[c], 0);
+        }
+        return gains;
+    }
+
+    private static double utility(double[] gains, Priority priority, DiminishingReturns returns) {
+        double utility = 0;
+        for (int c = 0; c < CAPITAL_TYPES.length; c++) {
+            utility += priority.getWeight(CAPITAL_TYPES[c]) * returns.utility(gains[c]);
+        }
+        return utility;
+    }
+
+    /**
+     * 선택 조합은 유지하고, 활동별 가치는 기존 선형 가치로 표시
+     */
+    private static RecommendationResult withLinearValues(RecommendationResult result, Priority priority) {
+        List<SelectedActivity> selected = result.getSelectedActivities().stream()
+                .map(cur -> new SelectedActivity(cur.getActivity(), cur.getActivity().calculateValue(priority)))
+                .toList();
+
+        return RecommendationResult.builder()
+                .selectedActivities(selected)
+                .totalValue(selected.stream().mapToInt(SelectedActivity::getValue).sum())
+                .totalMinutes(result.getTotalMinutes())
+                .remainingMinutes(result.getRemainingMinutes())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 균형 목적 최적화 결과
+ * upperBound는 어떤 조합도 넘을 수 없는 효용 상한이므로 upperBound - utility가 최적해와의 최대 차이다.
+ */
+@Getter
+@Builder
+public class BalancedRecommendation {
+
+    private final RecommendationResult result;
+    private final double utility;
+    private final double upperBound;
+    private final int iterations;
+
+    /**
+     * 보장된 최적성 차이 (절대값)
+     */
+    public double getOptimalityGap() {
+        return Math.max(0, upperBound - utility);
+    }
+}
@@ -0,0 +1,144 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.priority.domain.Priority;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가용 시간대를 고려한 활동 배치 Domain Service
+ * 1. 겹치는 시간대 병합 후, 가장 긴 시간대에도 들어가지 않는 활동 제외
+ * 2. 시간대 총합을 용량으로 DP (상한 해)
+ * 3. 긴 활동부터 best-fit으로 시간대에 배치
+ * 4. 배치하지 못한 자리는 가치 밀도가 높은 나머지 활동으로 채움 (같은 그룹은 하나만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarActivityPlanner {
+
+    private final OptimalActivityFinder optimalActivityFinder;
+
+    public CalendarPlan plan(List<Activity> activities, Priority priority, List<AvailabilityWindow> windows) {
+        List<AvailabilityWindow> merged = normalize(windows);
+        int totalMinutes = merged.stream().mapToInt(AvailabilityWindow::getLengthMinutes).sum();
+        int longestWindow = merged.stream().mapToInt(AvailabilityWindow::getLengthMinutes).max().orElse(0);
+
+        // 1. 어떤 시간대에도 들어가지 않는 활동 제외
+        List<Activity> candidates = activities.stream()
+                .filter(activity -> activity.canBePerformedWithin(longestWindow))
+                .toList();
+
+        // 2. 시간대 총합 기준 최적 조합
+        RecommendationResult relaxed = optimalActivityFinder.find(candidates, priority, TimeConstraint.of(totalMinutes));
+
+        // 3. 긴 활동부터 배치
+        AvailabilityIndex index = new AvailabilityIndex(merged);
+        Set<Activity> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> placedGroups = new HashSet<>();
+        List<ScheduledActivity> schedule = new ArrayList<>();
+
+        List<SelectedActivity> byDurationDesc = new ArrayList<>(relaxed.getSelectedActivities());
+        byDurationDesc.sort(Comparator.comparingInt(
+                (SelectedActivity selected) -> selected.getActivity().getDurationMinutes()).reversed());
+
+        for (SelectedActivity selected : byDurationDesc) {
+            int start = index.place(selected.getActivity().getDurationMinutes());
+            if (start >= 0) {
+                schedule.add(new ScheduledActivity(selected, start));
+                placed.add(selected.getActivity());
+                addGroup(placedGroups, selected.getActivity());
+            }
+        }
+
+        int unplaced = relaxed.getActivityCount() - schedule.size();
+
+        // 4. 남은 틈 채우기
+        List<SelectedActivity> rest = candidates.stream()
+                .filter(activity -> !placed.contains(activity))
+                .map(activity -> new SelectedActivity(activity, activity.calculateValue(priority)))
+                .filter(selected -> selected.getValue() > 0)
+                .sorted(Comparator.comparingDouble(
+                        (SelectedActivity selected) -> -(double) selected.getValue() / selected.getActivity().getDurationMinutes()))
+                .toList();
+
+        for (SelectedActivity selected : rest) {
+            int duration = selected.getActivity().getDurationMinutes();
+            if (duration > index.largestFree() || isGroupPlaced(placedGroups, selected.getActivity())) {
+                continue;
+            }
+            schedule.add(new ScheduledActivity(selected, index.place(duration)));
+            addGroup(placedGroups, selected.getActivity());
+        }
+
+        schedule.sort(Comparator.comparingInt(ScheduledActivity::getStartMinute));
+
+        log.debug("시간대 배치 완료 - 시간대: {}개, 후보: {}개, 배치: {}개 (상한 해에서 배치 실패: {}개)",
+                merged.size(), candidates.size(), schedule.size(), unplaced);
+
+        return CalendarPlan.builder()
+                .result(toResult(schedule, totalMinutes))
+                .schedule(schedule)
+                .build();
+    }
+
+    /**
+     * 시작 시각 순으로 정렬 후 겹치거나 맞닿은 시간대 병합
+     */
+    private List<AvailabilityWindow> normalize(List<AvailabilityWindow> windows) {
+        if (windows == null || windows.isEmpty()) {
+            throw new IllegalArgumentException("가용 시간대는 비어있을 수 없습니다.");
+        }
+
+        List<AvailabilityWindow> sorted = new ArrayList<>(windows);
+        Collections.sort(sorted);
+
+        List<AvailabilityWindow> merged = new ArrayList<>();
+        AvailabilityWindow current = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            AvailabilityWindow next = sorted.get(i);
+            if (current.touches(next)) {
+                current = current.merge(next);
+            } else {
+                merged.add(current);
+                current = next;
+            }
+        }
+        merged.add(current);
+
+        return merged;
+    }
+
+    private static boolean isGroupPlaced(Set<String> placedGroups, Activity activity) {
+        return activity.getGroupCode() != null && placedGroups.contains(activity.getGroupCode());
+    }
+
+    private static void addGroup(Set<String> placedGroups, Activity activity) {
+        if (activity.getGroupCode() != null) {
+            placedGroups.add(activity.getGroupCode());
+        }
+    }
+
+    private RecommendationResult toResult(List<ScheduledActivity> schedule, int availableMinutes) {
+        List<SelectedActivity> selected = schedule.stream()
+                .map(ScheduledActivity::getSelected)
+                .toList();
+        int totalValue = selected.stream().mapToInt(SelectedActivity::getValue).sum();
+        int totalMinutes = selected.stream().mapToInt(s -> s.getActivity().getDurationMinutes()).sum();
+
+        return RecommendationResult.builder()
+                .selectedActivities(selected)
+                .totalValue(totalValue)
+                .totalMinutes(totalMinutes)
+                .remainingMinutes(availableMinutes - totalMinutes)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 가용 시간대에 배치된 추천 결과
+ */
+@Getter
+@Builder
+public class CalendarPlan {
+
+    private final RecommendationResult result;
+    private final List<ScheduledActivity> schedule;
+}
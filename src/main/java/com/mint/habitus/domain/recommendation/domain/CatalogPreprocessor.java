@@ -0,0 +1,77 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.priority.domain.Priority;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * DP 입력 전처리기
+ * - 가용 시간을 초과하는 활동 제거
+ * - 가치가 0인 활동(모든 효과 0) 제거
+ * - 같은 (시간, 효과, 그룹) 활동을 수량 제한 아이템 하나로 병합
+ * - 시간 오름차순 정렬
+ */
+public class CatalogPreprocessor {
+
+    public PreprocessedCatalog preprocess(List<Activity> activities, Priority priority, int maxMinutes) {
+        return preprocess(activities, effects -> effects.calculateWeightedValue(priority), maxMinutes);
+    }
+
+    /**
+     * 효과 → 가치 변환을 지정하여 전처리 (선형화된 균형 목적 등)
+     */
+    public PreprocessedCatalog preprocess(
+            List<Activity> activities,
+            ToIntFunction<ActivityEffects> valuation,
+            int maxMinutes
+    ) {
+        int overCapacity = 0;
+        int zeroValue = 0;
+
+        Map<DuplicateKey, List<Activity>> duplicates = new LinkedHashMap<>();
+        Map<DuplicateKey, Integer> values = new LinkedHashMap<>();
+
+        for (Activity activity : activities) {
+            if (!activity.canBePerformedWithin(maxMinutes)) {
+                overCapacity++;
+                continue;
+            }
+
+            DuplicateKey key = new DuplicateKey(activity.getDurationMinutes(), activity.getEffects(), activity.getGroupCode());
+            Integer value = values.get(key);
+            if (value == null) {
+                value = valuation.applyAsInt(activity.getEffects());
+                values.put(key, value);
+            }
+
+            if (value <= 0) {
+                zeroValue++;
+                continue;
+            }
+
+            duplicates.computeIfAbsent(key, ignored -> new ArrayList<>()).add(activity);
+        }
+
+        List<CollapsedActivity> collapsed = new ArrayList<>(duplicates.size());
+        duplicates.forEach((key, copies) ->
+                collapsed.add(new CollapsedActivity(key.durationMinutes(), values.get(key), key.groupCode(), copies))
+        );
+        collapsed.sort(Comparator.comparingInt(CollapsedActivity::getDurationMinutes));
+
+        return PreprocessedCatalog.builder()
+                .activities(collapsed)
+                .originalCount(activities.size())
+                .overCapacityCount(overCapacity)
+                .zeroValueCount(zeroValue)
+                .build();
+    }
+
+    private record DuplicateKey(int durationMinutes, ActivityEffects effects, String groupCode) {
+    }
+}
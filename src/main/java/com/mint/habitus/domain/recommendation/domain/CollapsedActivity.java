@@ -0,0 +1,35 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 시간과 효과가 같은 활동 묶음 (수량 제한 아이템)
+ */
+@Getter
+public final class CollapsedActivity {
+
+    private final int durationMinutes;
+    private final int value;
+    private final String groupCode;
+    private final List<Activity> copies;
+
+    public CollapsedActivity(int durationMinutes, int value, String groupCode, List<Activity> copies) {
+        this.durationMinutes = durationMinutes;
+        this.value = value;
+        this.groupCode = groupCode;
+        this.copies = List.copyOf(copies);
+    }
+
+    public boolean isGrouped() {
+        return groupCode != null;
+    }
+
+    /**
+     * 묶음 내 활동 수
+     */
+    public int getMultiplicity() {
+        return copies.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 자본별 누적 효과에 적용하는 체감 수익 (오목 구간 선형 함수)
+ * step 점마다 기울기가 slopes 순서대로 낮아지고, 마지막 기울기는 이후 계속 유지된다.
+ * 예) step 10, slopes [4, 2, 1] → 0~10점은 점당 4, 10~20점은 2, 이후 1
+ */
+@EqualsAndHashCode
+public final class DiminishingReturns {
+
+    private static final DiminishingReturns DEFAULT = new DiminishingReturns(10, new int[]{4, 2, 1});
+
+    private final int step;
+    private final int[] slopes;
+
+    private DiminishingReturns(int step, int[] slopes) {
+        this.step = step;
+        this.slopes = slopes;
+    }
+
+    public static DiminishingReturns of(int step, int... slopes) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("구간 크기는 양수여야 합니다: " + step);
+        }
+        if (slopes == null || slopes.length == 0) {
+            throw new IllegalArgumentException("기울기는 하나 이상이어야 합니다.");
+        }
+        for (int i = 0; i < slopes.length; i++) {
+            if (slopes[i] <= 0 || (i > 0 && slopes[i] > slopes[i - 1])) {
+                throw new IllegalArgumentException("기울기는 양수이며 감소해야 합니다: " + Arrays.toString(slopes));
+            }
+        }
+        return new DiminishingReturns(step, slopes.clone());
+    }
+
+    public static DiminishingReturns defaultReturns() {
+        return DEFAULT;
+    }
+
+    /**
+     * 누적 효과 gain에서의 효용
+     */
+    public double utility(double gain) {
+        double utility = 0;
+        double remaining = gain;
+
+        for (int i = 0; i < slopes.length - 1 && remaining > 0; i++) {
+            double segment = Math.min(remaining, step);
+            utility += segment * slopes[i];
+            remaining -= segment;
+        }
+
+        return remaining > 0 ? utility + remaining * slopes[slopes.length - 1] : utility;
+    }
+
+    /**
+     * gain에서의 오른쪽 기울기
+     * 오목 함수이므로 f(x) ≤ f(gain) + slopeAt(gain) × (x - gain)이 모든 x에서 성립한다.
+     */
+    public int slopeAt(double gain) {
+        int segment = (int) Math.min(Math.floor(gain / step), slopes.length - 1);
+        return slopes[Math.max(segment, 0)];
+    }
+}
@@ -0,0 +1,154 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DP 배열 풀 (lock-free)
+ * 요청마다 가용 시간 크기의 배열을 새로 할당하지 않도록 DpBuffers를 재사용한다.
+ * 직전 구간(1분)의 최대 요구량보다 2배 이상 큰 버퍼는 반납/대여 시 버려 버스트 이후 메모리가 묶이지 않게 한다.
+ */
+public final class DpBufferPool {
+
+    private static final long TRIM_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int TRIM_FACTOR = 2;
+
+    private final AtomicReferenceArray<DpBuffers> slots;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder trims = new LongAdder();
+
+    // 현재 구간/직전 구간의 최대 요구 크기 (선택 비트 워드 수)
+    private final AtomicLong windowPeakWords = new AtomicLong();
+    private volatile long previousPeakWords;
+    private volatile long windowStartedAt = System.nanoTime();
+
+    public DpBufferPool() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public DpBufferPool(int slotCount) {
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("풀 크기는 양수여야 합니다: " + slotCount);
+        }
+        this.slots = new AtomicReferenceArray<>(slotCount);
+    }
+
+    /**
+     * 사용할 구간을 0으로 초기화한 버퍼 대여
+     * 크기가 맞지 않는 버퍼는 그대로 두고 다음 슬롯을 확인하며, 버스트 이후 남은 지나치게 큰 버퍼는 이때 버린다.
+     */
+    public DpBuffers acquire(int bestLength, int bitWords) {
+        recordDemand(bitWords);
+        long trimThreshold = trimThreshold();
+
+        int start = (int) (Thread.currentThread().threadId() % slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            int index = (start + i) % slots.length();
+            DpBuffers buffers = slots.get(index);
+            if (buffers == null) {
+                continue;
+            }
+
+            if (buffers.bits.length > trimThreshold) {
+                if (slots.compareAndSet(index, buffers, null)) {
+                    trims.increment();
+                }
+                continue;
+            }
+            if (buffers.fits(bestLength, bitWords) && slots.compareAndSet(index, buffers, null)) {
+                hits.increment();
+                Arrays.fill(buffers.best, 0, bestLength, 0);
+                Arrays.fill(buffers.bits, 0, bitWords, 0L);
+                return buffers;
+            }
+        }
+
+        misses.increment();
+        return new DpBuffers(roundUp(bestLength), roundUp(bitWords));
+    }
+
+    /**
+     * 반납 - 최근 요구량보다 지나치게 크면 버리고, 빈 슬롯이 없으면 더 작은 버퍼를 밀어냄
+     */
+    public void release(DpBuffers buffers) {
+        if (buffers.bits.length > trimThreshold()) {
+            trims.increment();
+            return;
+        }
+
+        int start = (int) (Thread.currentThread().threadId() % slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            int index = (start + i) % slots.length();
+            if (slots.get(index) == null && slots.compareAndSet(index, null, buffers)) {
+                return;
+            }
+        }
+
+        // 작은 버퍼만 남아 큰 요청이 계속 새로 할당하는 상황 방지
+        for (int i = 0; i < slots.length(); i++) {
+            int index = (start + i) % slots.length();
+            DpBuffers pooled = slots.get(index);
+            if (pooled != null && pooled.bits.length < buffers.bits.length
+                    && slots.compareAndSet(index, pooled, buffers)) {
+                return;
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getTrimCount() {
+        return trims.sum();
+    }
+
+    /**
+     * 풀에 보관 중인 버퍼 크기 합
+     */
+    public long getRetainedBytes() {
+        long bytes = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            DpBuffers buffers = slots.get(i);
+            if (buffers != null) {
+                bytes += buffers.sizeInBytes();
+            }
+        }
+        return bytes;
+    }
+
+    private long trimThreshold() {
+        long highWater = Math.max(previousPeakWords, windowPeakWords.get());
+        return (long) TRIM_FACTOR * roundUp(highWater);
+    }
+
+    private void recordDemand(long bitWords) {
+        long now = System.nanoTime();
+        if (now - windowStartedAt > TRIM_WINDOW_NANOS) {
+            // 동시에 여러 스레드가 구간을 넘겨도 최대값 추정만 약간 달라질 뿐이다
+            windowStartedAt = now;
+            previousPeakWords = windowPeakWords.getAndSet(0);
+        }
+        windowPeakWords.accumulateAndGet(bitWords, Math::max);
+    }
+
+    /**
+     * 크기가 조금씩 다른 요청이 같은 버퍼를 쓰도록 2의 거듭제곱으로 올림
+     */
+    private static int roundUp(long size) {
+        if (size <= 64) {
+            return 64;
+        }
+        long rounded = Long.highestOneBit(size - 1) << 1;
+        return (int) Math.min(rounded, Integer.MAX_VALUE - 8);
+    }
+}
@@ -0,0 +1,23 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+/**
+ * DP 한 번에 필요한 배열 묶음: 마지막 행(best)과 아이템별 선택 비트 슬랩(bits)
+ */
+public final class DpBuffers {
+
+    final int[] best;
+    final long[] bits;
+
+    DpBuffers(int bestLength, int bitWords) {
+        this.best = new int[bestLength];
+        this.bits = new long[bitWords];
+    }
+
+    boolean fits(int bestLength, int bitWords) {
+        return best.length >= bestLength && bits.length >= bitWords;
+    }
+
+    long sizeInBytes() {
+        return (long) best.length * Integer.BYTES + (long) bits.length * Long.BYTES;
+    }
+}
@@ -0,0 +1,35 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 여러 주 계획 결과 (주마다 하나의 추천)
+ * upperBound는 반복 제한 없이 주마다 독립으로 계산한 가치의 합이므로 upperBound - totalValue가 최적해와의 최대 차이다.
+ */
+@Getter
+@Builder
+public class HorizonPlan {
+
+    private final List<RecommendationResult> weeks;
+    private final int totalValue;
+    private final int upperBound;
+    private final int coordinationRounds;
+
+    public static HorizonPlan of(List<RecommendationResult> weeks, int upperBound, int coordinationRounds) {
+        return HorizonPlan.builder()
+                .weeks(List.copyOf(weeks))
+                .totalValue(weeks.stream().mapToInt(RecommendationResult::getTotalValue).sum())
+                .upperBound(upperBound)
+                .coordinationRounds(coordinationRounds)
+                .build();
+    }
+
+    /**
+     * 보장된 최적성 차이 (절대값)
+     */
+    public int getOptimalityGap() {
+        return Math.max(0, upperBound - totalValue);
+    }
+}
@@ -0,0 +1,222 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.priority.domain.Priority;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 주 계획 Domain Service - 주마다 가용 시간이 다르고, 같은 활동은 전체 기간에 최대 N주까지만 선택한다.
+ * 주 × 활동 전체를 한 번에 푸는 DP 대신 주 단위 DP로 분해한다.
+ *
+ * 1. 결합 제약을 빼고 주마다 독립 계산 - 합계가 가치 상한
+ * 2. N주를 넘게 선택된 활동은 추가 시간의 가치(곡선의 한계 가치)가 큰 주, 즉 빈 시간을 채우기 쉬운 주에서 먼저 제외하고 해당 주만 다시 계산
+ * 3. 다른 주의 선택을 고정하고 한 주씩 다시 계산 (다른 주에서 이미 N번 선택한 활동 제외) - 개선될 때만 교체하므로 총 가치가 줄지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HorizonPlanner {
+
+    static final int MAX_WEEKS = 12;
+    private static final int MAX_COORDINATION_ROUNDS = 3;
+
+    private final OptimalActivityFinder optimalActivityFinder;
+
+    public HorizonPlan plan(
+            List<Activity> activities,
+            Priority priority,
+            List<TimeConstraint> weeks,
+            int maxRepeats
+    ) {
+        validate(weeks, maxRepeats);
+
+        // 1. 주별 독립 최적
+        List<RecommendationResult> plans = new ArrayList<>(weeks.size());
+        int upperBound = 0;
+        for (TimeConstraint week : weeks) {
+            RecommendationResult result = optimalActivityFinder.find(activities, priority, week);
+            plans.add(result);
+            upperBound += result.getTotalValue();
+        }
+
+        if (maxRepeats >= weeks.size()) {
+            return HorizonPlan.of(plans, upperBound, 0);
+        }
+
+        Horizon horizon = new Horizon(activities, priority, weeks, maxRepeats, plans);
+
+        // 2. 초과 선택 해소
+        horizon.repair();
+
+        // 3. 주 단위 조정
+        int rounds = 0;
+        while (rounds < MAX_COORDINATION_ROUNDS) {
+            rounds++;
+            if (!horizon.coordinate()) {
+                break;
+            }
+        }
+
+        HorizonPlan plan = HorizonPlan.of(horizon.plans, upperBound, rounds);
+        log.debug("기간 계획 완료 - 주: {}개, 최대 반복: {}, 가치: {} (상한 {}), 조정: {}회",
+                weeks.size(), maxRepeats, plan.getTotalValue(), upperBound, rounds);
+        return plan;
+    }
+
+    private void validate(List<TimeConstraint> weeks, int maxRepeats) {
+        if (weeks == null || weeks.isEmpty()) {
+            throw new IllegalArgumentException("주별 가용 시간은 최소 1주 이상이어야 합니다.");
+        }
+        if (weeks.size() > MAX_WEEKS) {
+            throw new IllegalArgumentException("계획 기간은 최대 " + MAX_WEEKS + "주입니다: " + weeks.size());
+        }
+        if (maxRepeats < 1) {
+            throw new IllegalArgumentException("활동 최대 반복 횟수는 1 이상이어야 합니다: " + maxRepeats);
+        }
+    }
+
+    /**
+     * 계획 중인 기간의 주별 선택 (활동은 ID, ID가 없으면 객체로 구분)
+     */
+    private final class Horizon {
+
+        private final List<Activity> activities;
+        private final Priority priority;
+        private final List<TimeConstraint> weeks;
+        private final int maxRepeats;
+        private final List<RecommendationResult> plans;
+        private final List<Set<Object>> selected;
+
+        private Horizon(
+                List<Activity> activities,
+                Priority priority,
+                List<TimeConstraint> weeks,
+                int maxRepeats,
+                List<RecommendationResult> plans
+        ) {
+            this.activities = activities;
+            this.priority = priority;
+            this.weeks = weeks;
+            this.maxRepeats = maxRepeats;
+            this.plans = new ArrayList<>(plans);
+            this.selected = new ArrayList<>(plans.size());
+            plans.forEach(plan -> selected.add(keys(plan)));
+        }
+
+        /**
+         * 초과 선택된 활동마다 (선택 주 수 - N)개 주에서 제외 후 해당 주만 다시 계산
+         */
+        void repair() {
+            Map<Object, List<Integer>> weeksByActivity = new HashMap<>();
+            Map<Object, Integer> durations = new HashMap<>();
+            for (int week = 0; week < plans.size(); week++) {
+                for (SelectedActivity cur : plans.get(week).getSelectedActivities()) {
+                    Object key = key(cur.getActivity());
+                    weeksByActivity.computeIfAbsent(key, ignored -> new ArrayList<>()).add(week);
+                    durations.put(key, cur.getActivity().getDurationMinutes());
+                }
+            }
+            weeksByActivity.values().removeIf(used -> used.size() <= maxRepeats);
+            if (weeksByActivity.isEmpty()) {
+                return;
+            }
+
+            ValueCurve curve = curve();
+            List<Set<Object>> excluded = new ArrayList<>(weeks.size());
+            weeks.forEach(week -> excluded.add(new HashSet<>()));
+
+            weeksByActivity.forEach((key, used) -> {
+                int duration = durations.get(key);
+                List<Integer> dropOrder = new ArrayList<>(used);
+                dropOrder.sort(Comparator.comparingInt((Integer week) -> extraTimeValue(curve, week, duration))
+                        .reversed());
+                dropOrder.subList(0, used.size() - maxRepeats)
+                        .forEach(week -> excluded.get(week).add(key));
+            });
+
+            // 제외가 생긴 주의 기존 선택에서 제외 활동을 먼저 빼 두어 다른 주의 사용 횟수 계산에 반영
+            for (int week = 0; week < weeks.size(); week++) {
+                selected.get(week).removeAll(excluded.get(week));
+            }
+            for (int week = 0; week < weeks.size(); week++) {
+                if (!excluded.get(week).isEmpty()) {
+                    replace(week, solve(week, excluded.get(week)));
+                }
+            }
+        }
+
+        /**
+         * 한 주씩 다른 주를 고정하고 다시 계산 - 개선된 주가 있으면 true
+         */
+        boolean coordinate() {
+            boolean improved = false;
+            for (int week = 0; week < weeks.size(); week++) {
+                RecommendationResult candidate = solve(week, Set.of());
+                if (candidate.getTotalValue() > plans.get(week).getTotalValue()) {
+                    replace(week, candidate);
+                    improved = true;
+                }
+            }
+            return improved;
+        }
+
+        /**
+         * 다른 주에서 이미 N번 선택한 활동과 제외 활동을 뺀 목록으로 계산
+         */
+        private RecommendationResult solve(int week, Set<Object> excluded) {
+            Map<Object, Integer> usedElsewhere = new HashMap<>();
+            for (int other = 0; other < weeks.size(); other++) {
+                if (other != week) {
+                    selected.get(other).forEach(key -> usedElsewhere.merge(key, 1, Integer::sum));
+                }
+            }
+
+            List<Activity> allowed = activities.stream()
+                    .filter(activity -> !excluded.contains(key(activity)))
+                    .filter(activity -> usedElsewhere.getOrDefault(key(activity), 0) < maxRepeats)
+                    .toList();
+            return optimalActivityFinder.find(allowed, priority, weeks.get(week));
+        }
+
+        private void replace(int week, RecommendationResult result) {
+            plans.set(week, result);
+            selected.set(week, keys(result));
+        }
+
+        /**
+         * 카탈로그 전체의 가용 시간별 최적 가치 (DP 한 번으로 모든 주에 사용)
+         */
+        private ValueCurve curve() {
+            int maxMinutes = TimeConstraint.fullWeek().getTotalMinutes();
+            try (KnapsackTable table = optimalActivityFinder.prepare(activities, priority)) {
+                return ValueCurve.of(table, maxMinutes);
+            }
+        }
+
+        /**
+         * 이 주에 duration분이 더 있을 때 얻는 가치 - 클수록 활동을 빼도 빈 시간을 다른 활동으로 채우기 쉽다.
+         */
+        private int extraTimeValue(ValueCurve curve, int week, int duration) {
+            return curve.marginalGain(weeks.get(week).getTotalMinutes(), duration);
+        }
+    }
+
+    private static Set<Object> keys(RecommendationResult result) {
+        Set<Object> keys = new HashSet<>();
+        result.getSelectedActivities().forEach(cur -> keys.add(key(cur.getActivity())));
+        return keys;
+    }
+
+    private static Object key(Activity activity) {
+        return activity.getId() != null ? activity.getId() : activity;
+    }
+}
@@ -0,0 +1,19 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 최대 하나만 선택할 수 있는 DP 아이템 묶음 (Multiple-choice Knapsack)
+ */
+@Getter
+public final class KnapsackGroup {
+
+    private final String code;
+    private final List<KnapsackItem> options;
+
+    public KnapsackGroup(String code, List<KnapsackItem> options) {
+        this.code = code;
+        this.options = List.copyOf(options);
+    }
+}
@@ -0,0 +1,22 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * DP에 투입되는 아이템
+ * 중복 묶음은 이진 분할(1, 2, 4, ...)되어 여러 아이템으로 표현된다.
+ */
+@Getter
+public final class KnapsackItem {
+
+    private final int durationMinutes;
+    private final int value;
+    private final List<SelectedActivity> members;
+
+    public KnapsackItem(int durationMinutes, int value, List<SelectedActivity> members) {
+        this.durationMinutes = durationMinutes;
+        this.value = value;
+        this.members = members;
+    }
+}
@@ -0,0 +1,255 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 0-1 / Multiple-choice Knapsack DP 상태
+ * n × W 정수 테이블 대신 마지막 행(best)과 아이템별 선택 비트(n × W bit)만 보관한다.
+ * 선택 비트는 아이템(그룹은 옵션)마다 words개씩 이어 붙인 슬랩 하나에 담는다.
+ * 그룹은 옵션마다 선택 비트를 두고 한 단계로 계산하여 O(전체 옵션 수 × W)로 처리한다.
+ * 다른 테이블을 이어받아(extend) 추가 아이템만 계산할 수 있다.
+ *
+ * 풀에서 배열을 빌린 테이블은 사용 후 close()로 반납해야 하며, 반납 후에는 사용할 수 없다.
+ */
+public final class KnapsackTable implements AutoCloseable {
+
+    private final KnapsackTable parent;
+    private final List<KnapsackItem> items;
+    private final List<KnapsackGroup> groups;
+
+    @Getter
+    private final int capacity;
+    private final int words;
+    private final int minDuration;
+    private final int[] best;
+    private final long[] bits;
+
+    private final DpBufferPool pool;
+    private final DpBuffers buffers;
+
+    private KnapsackTable(
+            KnapsackTable parent,
+            List<KnapsackItem> items,
+            List<KnapsackGroup> groups,
+            int capacity,
+            DpBufferPool pool,
+            DpBuffers buffers
+    ) {
+        this.parent = parent;
+        this.items = items;
+        this.groups = groups;
+        this.capacity = capacity;
+        this.words = (capacity >>> 6) + 1;
+        this.minDuration = minDuration(items, groups);
+        this.best = buffers.best;
+        this.bits = buffers.bits;
+        this.pool = pool;
+        this.buffers = buffers;
+    }
+
+    public static KnapsackTable solve(List<KnapsackItem> items, int capacity) {
+        return solve(items, List.of(), capacity);
+    }
+
+    /**
+     * 캐시 등 오래 보관할 테이블 (풀을 사용하지 않음)
+     */
+    public static KnapsackTable solve(List<KnapsackItem> items, List<KnapsackGroup> groups, int capacity) {
+        return solve(items, groups, capacity, null);
+    }
+
+    /**
+     * 풀에서 빌린 배열로 계산 (pool이 null이면 새로 할당)
+     */
+    public static KnapsackTable solve(
+            List<KnapsackItem> items,
+            List<KnapsackGroup> groups,
+            int capacity,
+            DpBufferPool pool
+    ) {
+        KnapsackTable table = allocate(null, items, groups, capacity, pool);
+        table.fill();
+        return table;
+    }
+
+    public KnapsackTable extend(List<KnapsackItem> extraItems, List<KnapsackGroup> extraGroups, int capacity) {
+        return extend(extraItems, extraGroups, capacity, null);
+    }
+
+    /**
+     * 현재 상태의 마지막 행에서 시작하여 추가 아이템만 계산 - O(k × W)
+     */
+    public KnapsackTable extend(
+            List<KnapsackItem> extraItems,
+            List<KnapsackGroup> extraGroups,
+            int capacity,
+            DpBufferPool pool
+    ) {
+        if (capacity > this.capacity) {
+            throw new IllegalArgumentException("이어받을 DP 상태의 용량이 부족합니다: " + this.capacity + " < " + capacity);
+        }
+
+        KnapsackTable table = allocate(this, extraItems, extraGroups, capacity, pool);
+        System.arraycopy(best, 0, table.best, 0, capacity + 1);
+        table.fill();
+        return table;
+    }
+
+    private static KnapsackTable allocate(
+            KnapsackTable parent,
+            List<KnapsackItem> items,
+            List<KnapsackGroup> groups,
+            int capacity,
+            DpBufferPool pool
+    ) {
+        int rows = items.size();
+        for (KnapsackGroup group : groups) {
+            rows += group.getOptions().size();
+        }
+
+        int bestLength = capacity + 1;
+        int bitWords = rows * ((capacity >>> 6) + 1);
+        DpBuffers buffers = pool == null ? new DpBuffers(bestLength, bitWords) : pool.acquire(bestLength, bitWords);
+
+        return new KnapsackTable(parent, items, groups, capacity, pool, buffers);
+    }
+
+    private void fill() {
+        int row = 0;
+
+        for (KnapsackItem cur : items) {
+            int duration = cur.getDurationMinutes();
+            int value = cur.getValue();
+            int offset = row++ * words;
+
+            // 선택할 수 없는 구간(w < duration)은 이전 값 그대로
+            for (int w = capacity; w >= duration; w--) {
+                int valueIfSelected = best[w - duration] + value;
+                if (valueIfSelected > best[w]) {
+                    best[w] = valueIfSelected;
+                    bits[offset + (w >>> 6)] |= 1L << w;
+                }
+            }
+        }
+
+        for (KnapsackGroup group : groups) {
+            List<KnapsackItem> options = group.getOptions();
+            int firstRow = row;
+            row += options.size();
+
+            // w 내림차순이므로 best[w - duration]은 아직 이 그룹을 반영하지 않은 값
+            for (int w = capacity; w > 0; w--) {
+                int choice = -1;
+
+                for (int o = 0; o < options.size(); o++) {
+                    KnapsackItem option = options.get(o);
+                    int duration = option.getDurationMinutes();
+                    if (duration > w) {
+                        continue;
+                    }
+
+                    int valueIfSelected = best[w - duration] + option.getValue();
+                    if (valueIfSelected > best[w]) {
+                        best[w] = valueIfSelected;
+                        choice = o;
+                    }
+                }
+
+                if (choice >= 0) {
+                    bits[(firstRow + choice) * words + (w >>> 6)] |= 1L << w;
+                }
+            }
+        }
+    }
+
+    /**
+     * 주어진 가용 시간에서의 최대 가치
+     */
+    public int bestValue(int minutes) {
+        return best[Math.min(minutes, capacity)];
+    }
+
+    /**
+     * 선택된 활동 역추적 (추가 아이템 → 이어받은 상태 순)
+     */
+    public List<SelectedActivity> backtrack(int minutes) {
+        List<SelectedActivity> selected = new ArrayList<>();
+        int w = Math.min(minutes, capacity);
+
+        for (KnapsackTable table = this; table != null; table = table.parent) {
+            w = table.collect(w, selected);
+        }
+
+        Collections.reverse(selected);
+        return selected;
+    }
+
+    /**
+     * 풀에서 빌린 배열 반납
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.release(buffers);
+        }
+    }
+
+    /**
+     * 계산 순서의 역순(그룹 → 단일 아이템)으로 선택 비트를 따라간다.
+     */
+    private int collect(int w, List<SelectedActivity> selected) {
+        int row = items.size();
+        for (KnapsackGroup group : groups) {
+            row += group.getOptions().size();
+        }
+
+        for (int g = groups.size() - 1; g >= 0 && w >= minDuration; g--) {
+            List<KnapsackItem> options = groups.get(g).getOptions();
+            row -= options.size();
+
+            for (int o = 0; o < options.size(); o++) {
+                if (isTaken(row + o, w)) {
+                    w = take(options.get(o), w, selected);
+                    break;
+                }
+            }
+        }
+
+        for (int i = items.size() - 1; i >= 0 && w >= minDuration; i--) {
+            if (isTaken(i, w)) {
+                w = take(items.get(i), w, selected);
+            }
+        }
+        return w;
+    }
+
+    /**
+     * 이 테이블에서 가장 짧은 아이템 시간 - 남은 시간이 이보다 작으면 더 선택된 아이템이 없으므로 역추적 조기 종료
+     */
+    private static int minDuration(List<KnapsackItem> items, List<KnapsackGroup> groups) {
+        int min = Integer.MAX_VALUE;
+        for (KnapsackItem item : items) {
+            min = Math.min(min, item.getDurationMinutes());
+        }
+        for (KnapsackGroup group : groups) {
+            for (KnapsackItem option : group.getOptions()) {
+                min = Math.min(min, option.getDurationMinutes());
+            }
+        }
+        return min;
+    }
+
+    private boolean isTaken(int row, int w) {
+        return (bits[row * words + (w >>> 6)] & (1L << w)) != 0;
+    }
+
+    private static int take(KnapsackItem item, int w, List<SelectedActivity> selected) {
+        List<SelectedActivity> members = new ArrayList<>(item.getMembers());
+        Collections.reverse(members);
+        selected.addAll(members);
+        return w - item.getDurationMinutes();
+    }
+}
@@ -0,0 +1,254 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Meet-in-the-middle 정확 해법 - O(2^(n/2) · n), 용량 W와 무관
+ * 단계(아이템: 제외/선택, 그룹: 제외/옵션 하나)를 선택지 수의 곱이 비슷한 두 절반으로 나누어 각각 모든 조합을 나열한다.
+ * 오른쪽 조합은 시간순으로 정렬한 뒤 가치가 오르는 조합(prefix max)만 남기고,
+ * 왼쪽 조합마다 남은 시간에 들어가는 가장 좋은 오른쪽 조합을 이분 탐색으로 찾는다.
+ * 아이템이 적고 용량이 큰 경우(초 단위 시간 등) DP 대신 사용한다.
+ */
+public final class MeetInTheMiddleSolver {
+
+    // 한쪽 절반에서 나열할 최대 조합 수 (조합당 16B)
+    static final long MAX_HALF_COMBINATIONS = 1L << 22;
+
+    // 조합 하나(나열 + 정렬 + 탐색)의 비용을 DP 칸 하나 대비로 환산한 값 (MeetInTheMiddleBenchmark 기준)
+    private static final int COST_PER_COMBINATION = 24;
+
+    // 이보다 짧으면 어느 쪽이든 수십 µs 안에 끝나므로 DP 유지 (풀 재사용, 기존 동점 처리)
+    private static final int MIN_CAPACITY = 24 * 60;
+
+    private MeetInTheMiddleSolver() {
+    }
+
+    /**
+     * 예상 비용이 DP(전체 옵션 수 × W)보다 작으면 true
+     */
+    public static boolean isPreferable(List<KnapsackItem> items, List<KnapsackGroup> groups, int capacity) {
+        List<List<KnapsackItem>> stages = toStages(items, groups);
+        if (stages.isEmpty() || capacity < MIN_CAPACITY) {
+            return false;
+        }
+
+        int[][] halves = split(stages);
+        long left = combinations(stages, halves[0]);
+        long right = combinations(stages, halves[1]);
+        if (left > MAX_HALF_COMBINATIONS || right > MAX_HALF_COMBINATIONS) {
+            return false;
+        }
+
+        long rows = items.size();
+        for (KnapsackGroup group : groups) {
+            rows += group.getOptions().size();
+        }
+        return (left + right) * COST_PER_COMBINATION < rows * (capacity + 1L);
+    }
+
+    /**
+     * 최대 가치 조합의 활동 (DP와 같이 아이템 → 그룹 순서, 동점이면 먼저 찾은 조합)
+     */
+    public static List<SelectedActivity> solve(List<KnapsackItem> items, List<KnapsackGroup> groups, int capacity) {
+        List<List<KnapsackItem>> stages = toStages(items, groups);
+        int[][] halves = split(stages);
+        for (int[] half : halves) {
+            if (combinations(stages, half) > MAX_HALF_COMBINATIONS) {
+                throw new IllegalArgumentException("Meet-in-the-middle로 풀기에는 조합 수가 너무 많습니다: " + half.length + "단계");
+            }
+        }
+
+        Half left = Half.enumerate(stages, halves[0], capacity);
+        Half right = Half.enumerate(stages, halves[1], capacity).frontier();
+
+        int bestValue = -1;
+        int bestLeft = 0;
+        int bestRight = 0;
+
+        for (int i = 0; i < left.size; i++) {
+            int j = right.floor(capacity - left.weights[i]);
+            int value = left.values[i] + right.values[j];
+            if (value > bestValue) {
+                bestValue = value;
+                bestLeft = i;
+                bestRight = j;
+            }
+        }
+
+        int[] choices = new int[stages.size()];
+        left.decode(bestLeft, choices);
+        right.decode(bestRight, choices);
+
+        List<SelectedActivity> selected = new ArrayList<>();
+        for (int stage = 0; stage < stages.size(); stage++) {
+            if (choices[stage] > 0) {
+                selected.addAll(stages.get(stage).get(choices[stage] - 1).getMembers());
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 단계별 선택지 (0번은 제외, 이후는 옵션)
+     */
+    private static List<List<KnapsackItem>> toStages(List<KnapsackItem> items, List<KnapsackGroup> groups) {
+        List<List<KnapsackItem>> stages = new ArrayList<>(items.size() + groups.size());
+        for (KnapsackItem item : items) {
+            stages.add(List.of(item));
+        }
+        for (KnapsackGroup group : groups) {
+            stages.add(group.getOptions());
+        }
+        return stages;
+    }
+
+    /**
+     * 선택지가 많은 단계부터 조합 수(로그)가 작은 쪽에 배정한 단계 번호
+     */
+    private static int[][] split(List<List<KnapsackItem>> stages) {
+        List<Integer> order = new ArrayList<>(stages.size());
+        for (int stage = 0; stage < stages.size(); stage++) {
+            order.add(stage);
+        }
+        order.sort(Comparator.comparingInt((Integer stage) -> stages.get(stage).size()).reversed());
+
+        List<List<Integer>> halves = List.of(new ArrayList<>(), new ArrayList<>());
+        double[] logSizes = new double[2];
+
+        for (int stage : order) {
+            int target = logSizes[0] <= logSizes[1] ? 0 : 1;
+            halves.get(target).add(stage);
+            logSizes[target] += Math.log(stages.get(stage).size() + 1);
+        }
+        return new int[][]{
+                halves.get(0).stream().mapToInt(Integer::intValue).toArray(),
+                halves.get(1).stream().mapToInt(Integer::intValue).toArray()
+        };
+    }
+
+    private static long combinations(List<List<KnapsackItem>> stages, int[] half) {
+        long count = 1;
+        for (int stage : half) {
+            count *= stages.get(stage).size() + 1;
+            if (count > MAX_HALF_COMBINATIONS) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 한쪽 절반의 조합 목록 (시간, 가치, 혼합 진법으로 표현한 단계별 선택)
+     */
+    private static final class Half {
+
+        private final List<List<KnapsackItem>> stages;
+        private final int[] half;
+        private final int size;
+        private final int[] weights;
+        private final int[] values;
+        private final long[] codes;
+
+        private Half(List<List<KnapsackItem>> stages, int[] half, int size, int[] weights, int[] values, long[] codes) {
+            this.stages = stages;
+            this.half = half;
+            this.size = size;
+            this.weights = weights;
+            this.values = values;
+            this.codes = codes;
+        }
+
+        /**
+         * 단계마다 기존 조합 × 선택지로 확장 (용량을 넘는 조합은 즉시 제외)
+         */
+        static Half enumerate(List<List<KnapsackItem>> stages, int[] half, int capacity) {
+            int total = (int) combinations(stages, half);
+            int[] weights = new int[total];
+            int[] values = new int[total];
+            long[] codes = new long[total];
+            int size = 1;
+            long radix = 1;
+
+            for (int stageIndex : half) {
+                List<KnapsackItem> stage = stages.get(stageIndex);
+                int base = size;
+                for (int choice = 1; choice <= stage.size(); choice++) {
+                    KnapsackItem option = stage.get(choice - 1);
+                    for (int i = 0; i < base; i++) {
+                        int weight = weights[i] + option.getDurationMinutes();
+                        if (weight > capacity) {
+                            continue;
+                        }
+                        weights[size] = weight;
+                        values[size] = values[i] + option.getValue();
+                        codes[size] = codes[i] + choice * radix;
+                        size++;
+                    }
+                }
+                radix *= stage.size() + 1;
+            }
+            return new Half(stages, half, size, weights, values, codes);
+        }
+
+        /**
+         * 시간 오름차순 정렬 후 가치가 이전보다 큰 조합만 유지 (가치도 오름차순이 된다)
+         */
+        Half frontier() {
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long) weights[i] << 32) | i;
+            }
+            Arrays.sort(order);
+
+            int[] frontierWeights = new int[size];
+            int[] frontierValues = new int[size];
+            long[] frontierCodes = new long[size];
+            int kept = 0;
+            int bestValue = -1;
+
+            for (long key : order) {
+                int i = (int) key;
+                if (values[i] > bestValue) {
+                    bestValue = values[i];
+                    frontierWeights[kept] = weights[i];
+                    frontierValues[kept] = values[i];
+                    frontierCodes[kept] = codes[i];
+                    kept++;
+                }
+            }
+            return new Half(stages, half, kept, frontierWeights, frontierValues, frontierCodes);
+        }
+
+        /**
+         * 시간이 limit 이하인 마지막 조합 (빈 조합이 항상 0번)
+         */
+        int floor(int limit) {
+            int low = 0;
+            int high = size - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (weights[mid] <= limit) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 조합의 단계별 선택을 choices[단계 번호]에 기록
+         */
+        void decode(int index, int[] choices) {
+            long code = codes[index];
+            for (int stageIndex : half) {
+                int radix = stages.get(stageIndex).size() + 1;
+                choices[stageIndex] = (int) (code % radix);
+                code /= radix;
+            }
+        }
+    }
+}
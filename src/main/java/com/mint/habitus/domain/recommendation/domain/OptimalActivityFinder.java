@@ -1,10 +1,16 @@
 package com.mint.habitus.domain.recommendation.domain;
 
 import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
 import com.mint.habitus.domain.priority.domain.Priority;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -15,94 +21,208 @@ import org.springframework.stereotype.Component;
 @Component
 public class OptimalActivityFinder {
 
+    private final CatalogPreprocessor preprocessor = new CatalogPreprocessor();
+
+    // 일회성 DP 배열 재사용 (prepare로 만든 캐시용 상태는 제외)
+    @Getter
+    private final DpBufferPool bufferPool = new DpBufferPool();
+
     /**
      * 0-1 Knapsack DP로 최적 활동 조합 도출
+     * 같은 그룹의 활동은 최대 하나만 선택한다 (Multiple-choice Knapsack).
      */
     public RecommendationResult find(
             List<Activity> activities,
             Priority priority,
             TimeConstraint timeConstraint
     ) {
+        return find(activities, linear(priority), timeConstraint);
+    }
+
+    /**
+     * 효과 → 가치 변환을 지정하여 최적 조합 도출
+     */
+    public RecommendationResult find(
+            List<Activity> activities,
+            ToIntFunction<ActivityEffects> valuation,
+            TimeConstraint timeConstraint
+    ) {
+        int W = timeConstraint.getTotalMinutes();
+
         if (activities.isEmpty()) {
-            return RecommendationResult.empty(timeConstraint.getTotalMinutes());
+            return RecommendationResult.empty(W);
         }
 
-        int n = activities.size();
-        int W = timeConstraint.getTotalMinutes();
+        // 1. 전처리 및 DP 아이템 생성
+        Stages stages = prepareStages(activities, valuation, W);
+        if (stages.isEmpty()) {
+            return RecommendationResult.empty(W);
+        }
 
-        log.debug("최적화 시작 - 활동: {}개, 가용시간: {}분", n, W);
+        log.debug("최적화 시작 - 아이템: {}개, 그룹: {}개, 가용시간: {}분",
+                stages.items().size(), stages.groups().size(), W);
 
-        // 1. 각 활동의 가치 계산
-        List<SelectedActivity> activitiesWithValues = calculateValues(activities, priority);
+        // 아이템이 적고 가용 시간이 길면 W와 무관한 Meet-in-the-middle이 더 빠르다
+        if (MeetInTheMiddleSolver.isPreferable(stages.items(), stages.groups(), W)) {
+            return buildResult(MeetInTheMiddleSolver.solve(stages.items(), stages.groups(), W), W);
+        }
 
-        // 2. DP 테이블 생성 및 계산
-        int[][] dp = buildDpTable(activitiesWithValues, W);
+        // 소요 시간 종류가 적어 도달 가능한 (시간, 가치) 상태가 W보다 훨씬 적으면 희소 DP, 아니면 중단 후 DP
+        Optional<List<SelectedActivity>> sparse = SparseKnapsackSolver.trySolve(stages.items(), stages.groups(), W);
+        if (sparse.isPresent()) {
+            return buildResult(sparse.get(), W);
+        }
+
+        // 2. DP 계산 → 3. 선택된 활동 역추적 및 결과 생성
+        try (KnapsackTable table = KnapsackTable.solve(stages.items(), stages.groups(), W, bufferPool)) {
+            return buildResult(table.backtrack(W), W);
+        }
+    }
+
+    /**
+     * 1주일 용량으로 DP 상태 생성
+     * 마지막 행이 모든 가용 시간의 최적값을 담고 있어 가용 시간과 무관하게 재사용할 수 있다.
+     */
+    public KnapsackTable prepare(List<Activity> activities, Priority priority) {
+        return prepare(activities, priority, TimeConstraint.fullWeek());
+    }
+
+    /**
+     * 지정한 용량까지 재사용할 DP 상태 생성 (이하의 모든 가용 시간에 사용 가능)
+     */
+    public KnapsackTable prepare(List<Activity> activities, Priority priority, TimeConstraint capacity) {
+        int W = capacity.getTotalMinutes();
+        Stages stages = prepareStages(activities, linear(priority), W);
+        return KnapsackTable.solve(stages.items(), stages.groups(), W);
+    }
+
+    /**
+     * 미리 계산된 DP 상태에 추가 활동만 이어서 계산 - O(k × W)
+     * 추가 활동의 그룹은 추가 활동 안에서만 적용된다.
+     */
+    public RecommendationResult extend(
+            KnapsackTable base,
+            List<Activity> extraActivities,
+            Priority priority,
+            TimeConstraint timeConstraint
+    ) {
+        int W = timeConstraint.getTotalMinutes();
+        Stages stages = prepareStages(extraActivities, linear(priority), W);
+        try (KnapsackTable table = base.extend(stages.items(), stages.groups(), W, bufferPool)) {
+            return buildResult(table.backtrack(W), W);
+        }
+    }
 
-        // 3. 선택된 활동 역추적
-        List<SelectedActivity> selected = backtrack(activitiesWithValues, dp, W);
+    /**
+     * 가용 시간별 최적 가치 곡선 - 마지막 행이 모든 용량의 최적값이므로 DP 한 번으로 0 ~ maxMinutes 전체를 구한다.
+     */
+    public ValueCurve curve(
+            KnapsackTable base,
+            List<Activity> extraActivities,
+            Priority priority,
+            int maxMinutes
+    ) {
+        if (extraActivities.isEmpty()) {
+            return ValueCurve.of(base, maxMinutes);
+        }
 
-        // 4. 결과 생성
-        return buildResult(selected, W);
+        Stages stages = prepareStages(extraActivities, linear(priority), maxMinutes);
+        try (KnapsackTable table = base.extend(stages.items(), stages.groups(), maxMinutes, bufferPool)) {
+            return ValueCurve.of(table, maxMinutes);
+        }
     }
 
     /**
-     * 각 활동의 가치 계산
+     * 전처리 (선택 불가 활동 제거, 중복 병합, 가치 계산) 후 DP 아이템 생성
      */
-    private List<SelectedActivity> calculateValues(List<Activity> activities, Priority priority) {
-        return activities.stream()
-                .map(activity -> new SelectedActivity(
-                        activity,
-                        activity.calculateValue(priority)
-                ))
-                .toList();
+    private Stages prepareStages(List<Activity> activities, ToIntFunction<ActivityEffects> valuation, int maxMinutes) {
+        PreprocessedCatalog catalog = preprocessor.preprocess(activities, valuation, maxMinutes);
+
+        log.debug("전처리 완료 - 활동: {}개 → {}개 (시간 초과: {}, 가치 0: {}, 중복: {})",
+                catalog.getOriginalCount(), catalog.getReducedCount(),
+                catalog.getOverCapacityCount(), catalog.getZeroValueCount(), catalog.getDuplicateCount());
+
+        return toStages(catalog, maxMinutes);
     }
 
-    private int[][] buildDpTable(List<SelectedActivity> activities, int maxMinutes) {
-        int n = activities.size();
-        int[][] dp = new int[n + 1][maxMinutes + 1];
+    /**
+     * 중복 묶음을 이진 분할하여 DP 아이템으로, 그룹 활동은 그룹별 옵션으로 변환 (시간 오름차순)
+     */
+    private Stages toStages(PreprocessedCatalog catalog, int maxMinutes) {
+        List<KnapsackItem> items = new ArrayList<>();
+        Map<String, List<KnapsackItem>> grouped = new LinkedHashMap<>();
+
+        for (CollapsedActivity collapsed : catalog.getActivities()) {
+            // 그룹에서는 하나만 선택되므로 중복 사본은 의미가 없다
+            if (collapsed.isGrouped()) {
+                Activity first = collapsed.getCopies().get(0);
+                grouped.computeIfAbsent(collapsed.getGroupCode(), ignored -> new ArrayList<>())
+                        .add(new KnapsackItem(collapsed.getDurationMinutes(), collapsed.getValue(),
+                                List.of(new SelectedActivity(first, collapsed.getValue()))));
+                continue;
+            }
 
-        for (int i = 1; i <= n; i++) {
-            SelectedActivity cur = activities.get(i - 1);
-            int duration = cur.getActivity().getDurationMinutes();
-            int value = cur.getValue();
+            int duration = collapsed.getDurationMinutes();
+            int value = collapsed.getValue();
+            int remaining = Math.min(collapsed.getMultiplicity(), maxMinutes / duration);
+            int offset = 0;
 
-            for (int w = 0; w <= maxMinutes; w++) {
-                // 선택하지 않는 경우
-                dp[i][w] = dp[i - 1][w];
+            for (int chunk = 1; remaining > 0; chunk <<= 1) {
+                int count = Math.min(chunk, remaining);
 
-                // 선택하는 경우
-                if (w >= duration) {
-                    int valueIfSelected = dp[i - 1][w - duration] + value;
-                    dp[i][w] = Math.max(dp[i][w], valueIfSelected);
-                }
+                List<SelectedActivity> members = collapsed.getCopies().subList(offset, offset + count).stream()
+                        .map(activity -> new SelectedActivity(activity, value))
+                        .toList();
+                items.add(new KnapsackItem(duration * count, value * count, members));
+
+                offset += count;
+                remaining -= count;
             }
         }
 
-        return dp;
+        List<KnapsackGroup> groups = new ArrayList<>();
+        grouped.forEach((code, options) -> {
+            List<KnapsackItem> kept = removeDominated(options);
+            // 옵션이 하나뿐인 그룹은 일반 아이템과 같다
+            if (kept.size() == 1) {
+                items.add(kept.get(0));
+            } else {
+                groups.add(new KnapsackGroup(code, kept));
+            }
+        });
+
+        items.sort(Comparator.comparingInt(KnapsackItem::getDurationMinutes));
+        return new Stages(items, groups);
     }
 
     /**
-     * 선택된 활동 역추적
+     * 더 짧거나 같은 시간에 더 높거나 같은 가치를 내는 옵션이 있으면 제외
      */
-    private List<SelectedActivity> backtrack(
-            List<SelectedActivity> activities,
-            int[][] dp,
-            int maxMinutes
-    ) {
-        List<SelectedActivity> selected = new ArrayList<>();
-        int n = activities.size();
-        int w = maxMinutes;
-
-        for (int i = n; i > 0 && w > 0; i--) {
-            if (dp[i][w] != dp[i - 1][w]) {
-                SelectedActivity cur = activities.get(i - 1);
-                selected.add(cur);
-                w -= cur.getActivity().getDurationMinutes();
+    private List<KnapsackItem> removeDominated(List<KnapsackItem> options) {
+        List<KnapsackItem> sorted = new ArrayList<>(options);
+        sorted.sort(Comparator.comparingInt(KnapsackItem::getDurationMinutes)
+                .thenComparing(Comparator.comparingInt(KnapsackItem::getValue).reversed()));
+
+        List<KnapsackItem> kept = new ArrayList<>();
+        int bestValue = 0;
+        for (KnapsackItem option : sorted) {
+            if (option.getValue() > bestValue) {
+                kept.add(option);
+                bestValue = option.getValue();
             }
         }
+        return kept;
+    }
 
-        Collections.reverse(selected);
-        return selected;
+    private static ToIntFunction<ActivityEffects> linear(Priority priority) {
+        return effects -> effects.calculateWeightedValue(priority);
+    }
+
+    private record Stages(List<KnapsackItem> items, List<KnapsackGroup> groups) {
+
+        boolean isEmpty() {
+            return items.isEmpty() && groups.isEmpty();
+        }
     }
 
     /**
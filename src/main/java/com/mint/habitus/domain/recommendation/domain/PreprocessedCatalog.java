@@ -0,0 +1,36 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 전처리된 DP 입력과 축소 통계
+ */
+@Getter
+@Builder
+public class PreprocessedCatalog {
+
+    private final List<CollapsedActivity> activities;
+    private final int originalCount;
+    private final int overCapacityCount;
+    private final int zeroValueCount;
+
+    public boolean isEmpty() {
+        return activities.isEmpty();
+    }
+
+    /**
+     * 병합된 중복 활동 수
+     */
+    public int getDuplicateCount() {
+        return originalCount - overCapacityCount - zeroValueCount - activities.size();
+    }
+
+    /**
+     * 전처리 후 남은 서로 다른 활동 수
+     */
+    public int getReducedCount() {
+        return activities.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+/**
+ * 추천 목적 함수
+ */
+public enum RecommendationObjective {
+
+    // 자본별 효과 × 우선순위 가중치의 합
+    LINEAR,
+
+    // 자본별 누적 효과에 체감 수익을 적용하여 고르게 성장하는 조합 선호
+    BALANCED
+}
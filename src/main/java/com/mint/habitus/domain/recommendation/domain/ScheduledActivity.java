@@ -0,0 +1,36 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import lombok.Getter;
+
+/**
+ * 특정 시간대에 배치된 활동
+ */
+@Getter
+public final class ScheduledActivity {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final SelectedActivity selected;
+    private final int startMinute;
+    private final int endMinute;
+
+    public ScheduledActivity(SelectedActivity selected, int startMinute) {
+        this.selected = selected;
+        this.startMinute = startMinute;
+        this.endMinute = startMinute + selected.getActivity().getDurationMinutes();
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return DayOfWeek.of(startMinute / MINUTES_PER_DAY + 1);
+    }
+
+    public LocalTime getStartTime() {
+        return LocalTime.of(0, 0).plusMinutes(startMinute % MINUTES_PER_DAY);
+    }
+
+    public LocalTime getEndTime() {
+        return LocalTime.of(0, 0).plusMinutes(endMinute % MINUTES_PER_DAY);
+    }
+}
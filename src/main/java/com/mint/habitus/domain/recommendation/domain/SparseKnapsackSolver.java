@@ -0,0 +1,238 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 희소 Pareto 상태 DP
+ * 각 단계에서 (시간, 가치) 상태 중 더 짧은 시간에 더 높은 가치를 내는 상태가 없는 것(Pareto)만
+ * 시간 오름차순 정수 배열로 보관하고, 이전 상태와 옵션을 더한 상태를 선형 병합한다.
+ * 소요 시간이 굵고 종류가 적으면 W + 1칸 중 대부분이 같은 값의 반복이므로 시간과 메모리가 상태 수에 비례한다.
+ *
+ * 도달 가능한 시간의 상한(min(W, 총 소요 시간) / 소요 시간의 최대공약수)이 W / ATTEMPT_RATIO 이하일 때만 시도하고,
+ * 실제 상태 수가 W / SPARSITY_RATIO를 넘으면 중단하여 빈 결과를 반환한다 (호출 측은 DP로 전환).
+ */
+public final class SparseKnapsackSolver {
+
+    private static final int ATTEMPT_RATIO = 4;
+    private static final int SPARSITY_RATIO = 8;
+
+    // 희소 DP는 단계마다 상태 배열을 새로 할당하지만 DP는 풀의 배열을 재사용한다.
+    // 하루 미만이면 DP 한 행이 약 6KB로 캐시 안에서 끝나 줄일 수 있는 연산(최대 n × W)보다 할당 비용이 커진다.
+    private static final int MIN_CAPACITY = 24 * 60;
+
+    private SparseKnapsackSolver() {
+    }
+
+    /**
+     * 상태 수가 충분히 적으면 최대 가치 조합 (DP와 같이 아이템 → 그룹 순서)
+     */
+    public static Optional<List<SelectedActivity>> trySolve(
+            List<KnapsackItem> items,
+            List<KnapsackGroup> groups,
+            int capacity
+    ) {
+        if (capacity < MIN_CAPACITY || reachableBound(items, groups, capacity) > capacity / ATTEMPT_RATIO) {
+            return Optional.empty();
+        }
+        return solve(items, groups, capacity, capacity / SPARSITY_RATIO);
+    }
+
+    /**
+     * 도달 가능한 서로 다른 시간 수의 상한 - 모든 합은 소요 시간 최대공약수의 배수다.
+     */
+    private static long reachableBound(List<KnapsackItem> items, List<KnapsackGroup> groups, int capacity) {
+        long totalDuration = 0;
+        int gcd = 0;
+
+        for (KnapsackItem item : items) {
+            totalDuration += item.getDurationMinutes();
+            gcd = gcd(gcd, item.getDurationMinutes());
+        }
+        for (KnapsackGroup group : groups) {
+            int longest = 0;
+            for (KnapsackItem option : group.getOptions()) {
+                longest = Math.max(longest, option.getDurationMinutes());
+                gcd = gcd(gcd, option.getDurationMinutes());
+            }
+            totalDuration += longest;
+        }
+
+        if (gcd == 0) {
+            return 1;
+        }
+        return Math.min(capacity, totalDuration) / gcd + 1;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    /**
+     * 상태 수가 maxStates를 넘으면 빈 결과
+     */
+    static Optional<List<SelectedActivity>> solve(
+            List<KnapsackItem> items,
+            List<KnapsackGroup> groups,
+            int capacity,
+            int maxStates
+    ) {
+        List<List<KnapsackItem>> stages = new ArrayList<>(items.size() + groups.size());
+        for (KnapsackItem item : items) {
+            stages.add(List.of(item));
+        }
+        for (KnapsackGroup group : groups) {
+            stages.add(group.getOptions());
+        }
+
+        Frontier frontier = Frontier.initial();
+        List<int[]> parents = new ArrayList<>(stages.size());
+        List<int[]> choices = new ArrayList<>(stages.size());
+
+        for (List<KnapsackItem> stage : stages) {
+            // 선택지 0(제외)은 이전 상태 그대로, 이후 옵션마다 이전 상태에 더한 목록을 병합
+            Frontier merged = frontier.skipped();
+            for (int choice = 1; choice <= stage.size(); choice++) {
+                merged = merged.merge(frontier, stage.get(choice - 1), choice, capacity);
+            }
+
+            if (merged.size > maxStates) {
+                return Optional.empty();
+            }
+
+            parents.add(merged.trimmedParents());
+            choices.add(merged.trimmedChoices());
+            frontier = merged;
+        }
+
+        // 마지막 상태가 최대 가치 (가치도 시간 오름차순으로 증가)
+        List<KnapsackItem> taken = new ArrayList<>();
+        int state = frontier.size - 1;
+        for (int s = stages.size() - 1; s >= 0; s--) {
+            int choice = choices.get(s)[state];
+            if (choice > 0) {
+                taken.add(stages.get(s).get(choice - 1));
+            }
+            state = parents.get(s)[state];
+        }
+
+        Collections.reverse(taken);
+        List<SelectedActivity> selected = new ArrayList<>();
+        taken.forEach(item -> selected.addAll(item.getMembers()));
+        return Optional.of(selected);
+    }
+
+    /**
+     * 한 단계의 Pareto 상태 (시간 오름차순, 가치 순증가)와 이전 단계의 상태 번호, 선택지
+     */
+    private static final class Frontier {
+
+        private final int size;
+        private final int[] weights;
+        private final int[] values;
+        private final int[] parents;
+        private final int[] choices;
+
+        private Frontier(int size, int[] weights, int[] values, int[] parents, int[] choices) {
+            this.size = size;
+            this.weights = weights;
+            this.values = values;
+            this.parents = parents;
+            this.choices = choices;
+        }
+
+        static Frontier initial() {
+            return new Frontier(1, new int[]{0}, new int[]{0}, new int[]{0}, new int[]{0});
+        }
+
+        /**
+         * 다음 단계에서 이 상태들을 제외(선택지 0)로 이어받은 목록
+         */
+        Frontier skipped() {
+            int[] parentIndexes = new int[size];
+            for (int i = 0; i < size; i++) {
+                parentIndexes[i] = i;
+            }
+            return new Frontier(size, weights, values, parentIndexes, new int[size]);
+        }
+
+        /**
+         * 현재 목록과 (이전 상태 + 옵션) 목록을 시간순으로 병합하며 지배되는 상태 제거 - O(현재 + 이전)
+         * 같은 시간이면 현재 목록(먼저 고려한 선택지)을 우선한다.
+         */
+        Frontier merge(Frontier previous, KnapsackItem option, int choice, int capacity) {
+            int duration = option.getDurationMinutes();
+            int value = option.getValue();
+
+            int shiftedSize = 0;
+            while (shiftedSize < previous.size && previous.weights[shiftedSize] + duration <= capacity) {
+                shiftedSize++;
+            }
+
+            int limit = size + shiftedSize;
+            int[] mergedWeights = new int[limit];
+            int[] mergedValues = new int[limit];
+            int[] mergedParents = new int[limit];
+            int[] mergedChoices = new int[limit];
+            int count = 0;
+            int lastValue = -1;
+            int i = 0;
+            int j = 0;
+
+            while (i < size || j < shiftedSize) {
+                boolean fromCurrent = j >= shiftedSize
+                        || (i < size && weights[i] <= previous.weights[j] + duration);
+
+                int w;
+                int v;
+                int parent;
+                int c;
+                if (fromCurrent) {
+                    w = weights[i];
+                    v = values[i];
+                    parent = parents[i];
+                    c = choices[i];
+                    i++;
+                } else {
+                    w = previous.weights[j] + duration;
+                    v = previous.values[j] + value;
+                    parent = j;
+                    c = choice;
+                    j++;
+                }
+
+                if (v <= lastValue) {
+                    continue;
+                }
+                // 같은 시간에 더 높은 가치가 오면 직전 상태를 대체
+                if (count > 0 && mergedWeights[count - 1] == w) {
+                    count--;
+                }
+                mergedWeights[count] = w;
+                mergedValues[count] = v;
+                mergedParents[count] = parent;
+                mergedChoices[count] = c;
+                lastValue = v;
+                count++;
+            }
+
+            return new Frontier(count, mergedWeights, mergedValues, mergedParents, mergedChoices);
+        }
+
+        int[] trimmedParents() {
+            return Arrays.copyOf(parents, size);
+        }
+
+        int[] trimmedChoices() {
+            return Arrays.copyOf(choices, size);
+        }
+    }
+}
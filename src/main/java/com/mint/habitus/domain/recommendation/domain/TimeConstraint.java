@@ -23,6 +23,13 @@ public class TimeConstraint {
         return new TimeConstraint(minutes);
     }
 
+    /**
+     * 1주일 전체 (DP 상태를 모든 가용 시간에 재사용할 때)
+     */
+    public static TimeConstraint fullWeek() {
+        return new TimeConstraint(WEEKLY_AVAILABLE_TIME);
+    }
+
     private static void validate(int minutes) {
         if (minutes <= 0) {
             throw new IllegalArgumentException("시간은 양수여야 합니다: " + minutes);
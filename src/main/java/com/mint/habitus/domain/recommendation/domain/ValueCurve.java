@@ -0,0 +1,103 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가용 시간별 최적 가치 곡선 (DP 마지막 행)
+ * 가치는 가용 시간에 대해 단조 증가하는 계단 함수이므로 값이 바뀌는 지점(breakpoint)만으로 표현할 수 있다.
+ */
+public final class ValueCurve {
+
+    private final int[] values;
+
+    private ValueCurve(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * DP 상태의 마지막 행에서 0 ~ maxMinutes 구간을 복사
+     */
+    public static ValueCurve of(KnapsackTable table, int maxMinutes) {
+        int limit = Math.min(maxMinutes, table.getCapacity());
+        int[] values = new int[limit + 1];
+        for (int w = 0; w <= limit; w++) {
+            values[w] = table.bestValue(w);
+        }
+        return new ValueCurve(values);
+    }
+
+    public static ValueCurve empty(int maxMinutes) {
+        return new ValueCurve(new int[maxMinutes + 1]);
+    }
+
+    public int getMaxMinutes() {
+        return values.length - 1;
+    }
+
+    public int getMaxValue() {
+        return values[values.length - 1];
+    }
+
+    public int valueAt(int minutes) {
+        validate(minutes);
+        return values[minutes];
+    }
+
+    /**
+     * minutes에서 deltaMinutes만큼 시간이 늘어날 때의 가치 증가 (곡선 끝을 넘으면 끝까지)
+     */
+    public int marginalGain(int minutes, int deltaMinutes) {
+        validate(minutes);
+        if (deltaMinutes <= 0) {
+            throw new IllegalArgumentException("증가 시간은 양수여야 합니다: " + deltaMinutes);
+        }
+        return values[Math.min(minutes + deltaMinutes, getMaxMinutes())] - values[minutes];
+    }
+
+    /**
+     * 값이 바뀌는 지점 (첫 지점은 0분)
+     * maxPoints를 넘으면 직전 지점보다 (최대 가치 / maxPoints) 이상 오른 지점만 남긴다.
+     * 남긴 지점으로 복원한 계단 함수는 실제 곡선보다 크지 않고, 마지막 지점(최대 가치)은 항상 포함된다.
+     */
+    public List<Breakpoint> breakpoints(int maxPoints) {
+        if (maxPoints <= 0) {
+            throw new IllegalArgumentException("지점 수는 양수여야 합니다: " + maxPoints);
+        }
+
+        List<Breakpoint> exact = new ArrayList<>();
+        exact.add(new Breakpoint(0, values[0]));
+        for (int w = 1; w < values.length; w++) {
+            if (values[w] != values[w - 1]) {
+                exact.add(new Breakpoint(w, values[w]));
+            }
+        }
+
+        if (exact.size() <= maxPoints) {
+            return exact;
+        }
+
+        int step = Math.max(1, (getMaxValue() - values[0] + maxPoints - 1) / maxPoints);
+        List<Breakpoint> thinned = new ArrayList<>();
+        Breakpoint lastKept = exact.get(0);
+        thinned.add(lastKept);
+
+        for (int i = 1; i < exact.size(); i++) {
+            Breakpoint point = exact.get(i);
+            if (point.value() - lastKept.value() >= step || i == exact.size() - 1) {
+                thinned.add(point);
+                lastKept = point;
+            }
+        }
+        return thinned;
+    }
+
+    private void validate(int minutes) {
+        if (minutes < 0 || minutes > getMaxMinutes()) {
+            throw new IllegalArgumentException("곡선 범위(0 ~ " + getMaxMinutes() + "분)를 벗어난 시간입니다: " + minutes);
+        }
+    }
+
+    public record Breakpoint(int minutes, int value) {
+    }
+}
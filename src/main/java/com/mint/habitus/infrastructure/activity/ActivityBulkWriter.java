@@ -0,0 +1,89 @@
+package com.mint.habitus.infrastructure.activity;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * activity_templates JDBC 배치 INSERT
+ * IDENTITY 전략은 JPA 배치 INSERT를 막으므로 JdbcTemplate으로 직접 기록한다.
+ * 호출 측 트랜잭션(JPA 트랜잭션 매니저의 커넥션)에 참여한다.
+ */
+@Component
+public class ActivityBulkWriter {
+
+    private static final String INSERT_SQL = """
+            insert into activity_templates (owner_id, group_code, name, description, duration_minutes, cost,
+                physical_effect, mental_effect, knowledge_effect, cultural_effect,
+                linguistic_effect, social_effect, economic_effect)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ActivityBulkWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${habitus.activity-import.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * batchSize 단위로 모아 기록 (전체를 메모리에 올리지 않음)
+     *
+     * @return 기록한 행 수
+     */
+    public int insert(Iterator<Activity> activities) {
+        List<Activity> batch = new ArrayList<>(batchSize);
+        int written = 0;
+
+        while (activities.hasNext()) {
+            batch.add(activities.next());
+            if (batch.size() == batchSize) {
+                written += flush(batch);
+            }
+        }
+        return written + flush(batch);
+    }
+
+    private int flush(List<Activity> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private void bind(PreparedStatement ps, Activity activity) throws SQLException {
+        if (activity.getOwnerId() == null) {
+            ps.setNull(1, Types.BIGINT);
+        } else {
+            ps.setLong(1, activity.getOwnerId());
+        }
+        ps.setString(2, activity.getGroupCode());
+        ps.setString(3, activity.getName());
+        ps.setString(4, activity.getDescription());
+        ps.setInt(5, activity.getDurationMinutes());
+        ps.setInt(6, activity.getCost());
+        ps.setInt(7, activity.getEffectOn(CapitalType.PHYSICAL));
+        ps.setInt(8, activity.getEffectOn(CapitalType.MENTAL));
+        ps.setInt(9, activity.getEffectOn(CapitalType.KNOWLEDGE));
+        ps.setInt(10, activity.getEffectOn(CapitalType.CULTURAL));
+        ps.setInt(11, activity.getEffectOn(CapitalType.LINGUISTIC));
+        ps.setInt(12, activity.getEffectOn(CapitalType.SOCIAL));
+        ps.setInt(13, activity.getEffectOn(CapitalType.ECONOMIC));
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,23 @@ import lombok.NoArgsConstructor;
  * Activity JPA Entity
  */
 @Entity
-@Table(name = "activity_templates")
+@Table(
+        name = "activity_templates",
+        indexes = {
+                // owner_id 인덱스는 PK를 포함하므로 (owner_id, id) 정렬에도 사용
+                @Index(name = "idx_activity_templates_owner", columnList = "owner_id"),
+                // 카탈로그 탐색 Keyset 정렬 - 항상 owner_id is null 조건이 붙으므로 owner_id를 선두에 두어
+                // (정렬 컬럼, id) 순서를 유지한 채 전역 카탈로그 구간만 범위 스캔
+                @Index(name = "idx_activity_templates_owner_duration", columnList = "owner_id, duration_minutes, id"),
+                @Index(name = "idx_activity_templates_owner_physical", columnList = "owner_id, physical_effect, id"),
+                @Index(name = "idx_activity_templates_owner_mental", columnList = "owner_id, mental_effect, id"),
+                @Index(name = "idx_activity_templates_owner_knowledge", columnList = "owner_id, knowledge_effect, id"),
+                @Index(name = "idx_activity_templates_owner_cultural", columnList = "owner_id, cultural_effect, id"),
+                @Index(name = "idx_activity_templates_owner_linguistic", columnList = "owner_id, linguistic_effect, id"),
+                @Index(name = "idx_activity_templates_owner_social", columnList = "owner_id, social_effect, id"),
+                @Index(name = "idx_activity_templates_owner_economic", columnList = "owner_id, economic_effect, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -27,6 +44,14 @@ public class ActivityEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 사용자 전용 활동이면 소유자 ID, 전역 카탈로그면 null
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    // 같은 그룹에서는 최대 하나만 추천 (그룹이 없으면 null)
+    @Column(name = "group_code", length = 50)
+    private String groupCode;
+
     @Column(nullable = false)
     private String name;
 
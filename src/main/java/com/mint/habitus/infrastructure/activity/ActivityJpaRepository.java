@@ -1,9 +1,26 @@
 package com.mint.habitus.infrastructure.activity;
 
+import com.mint.habitus.domain.activity.domain.OwnedActivityRevision;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 /**
  * Spring Data JPA Repository
  */
 public interface ActivityJpaRepository extends JpaRepository<ActivityEntity, Long> {
+
+    List<ActivityEntity> findByOwnerIdIsNull();
+
+    List<ActivityEntity> findByOwnerId(Long ownerId);
+
+    @Query("select distinct a.ownerId from ActivityEntity a where a.ownerId is not null")
+    List<Long> findOwnerIds();
+
+    @Query("""
+            select new com.mint.habitus.domain.activity.domain.OwnedActivityRevision(count(a), coalesce(max(a.id), 0L))
+            from ActivityEntity a
+            where a.ownerId = :ownerId
+            """)
+    OwnedActivityRevision findOwnedRevision(Long ownerId);
 }
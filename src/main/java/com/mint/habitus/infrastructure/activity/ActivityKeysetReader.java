@@ -0,0 +1,76 @@
+package com.mint.habitus.infrastructure.activity;
+
+import com.mint.habitus.domain.activity.domain.ActivityBrowseCondition;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 Keyset 조회
+ * (owner_id, 정렬 컬럼, id) 복합 인덱스를 커서 위치부터 범위 스캔하므로 OFFSET과 달리 페이지 위치와 무관하게 일정하다.
+ */
+@Component
+public class ActivityKeysetReader {
+
+    private static final Map<CapitalType, String> EFFECT_FIELDS = new EnumMap<>(Map.of(
+            CapitalType.PHYSICAL, "physicalEffect",
+            CapitalType.MENTAL, "mentalEffect",
+            CapitalType.KNOWLEDGE, "knowledgeEffect",
+            CapitalType.CULTURAL, "culturalEffect",
+            CapitalType.LINGUISTIC, "linguisticEffect",
+            CapitalType.SOCIAL, "socialEffect",
+            CapitalType.ECONOMIC, "economicEffect"
+    ));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<ActivityEntity> read(ActivityBrowseCondition condition) {
+        String sortField = switch (condition.getSortKey()) {
+            case EFFECT -> "a." + EFFECT_FIELDS.get(condition.getCapital());
+            case DURATION -> "a.durationMinutes";
+            case ID -> null;
+        };
+
+        StringBuilder jpql = new StringBuilder("select a from ActivityEntity a where a.ownerId is null");
+        if (condition.getMinDuration() != null) {
+            jpql.append(" and a.durationMinutes >= :minDuration");
+        }
+        if (condition.getMaxDuration() != null) {
+            jpql.append(" and a.durationMinutes <= :maxDuration");
+        }
+        if (condition.getMinEffect() != null) {
+            jpql.append(" and ").append(sortField).append(" >= :minEffect");
+        }
+        if (condition.hasCursor()) {
+            jpql.append(sortField == null
+                    ? " and a.id > :cursorId"
+                    : " and (" + sortField + " > :cursorValue or (" + sortField + " = :cursorValue and a.id > :cursorId))");
+        }
+        jpql.append(sortField == null ? " order by a.id" : " order by " + sortField + ", a.id");
+
+        TypedQuery<ActivityEntity> query = entityManager.createQuery(jpql.toString(), ActivityEntity.class);
+        if (condition.getMinDuration() != null) {
+            query.setParameter("minDuration", condition.getMinDuration());
+        }
+        if (condition.getMaxDuration() != null) {
+            query.setParameter("maxDuration", condition.getMaxDuration());
+        }
+        if (condition.getMinEffect() != null) {
+            query.setParameter("minEffect", condition.getMinEffect());
+        }
+        if (condition.hasCursor()) {
+            query.setParameter("cursorId", condition.getCursorId());
+            if (sortField != null) {
+                query.setParameter("cursorValue", condition.getCursorValue());
+            }
+        }
+
+        return query.setMaxResults(condition.getLimit() + 1).getResultList();
+    }
+}
@@ -20,19 +20,33 @@ public class ActivityMapper {
         effects.put(CapitalType.SOCIAL, entity.getSocialEffect());
         effects.put(CapitalType.ECONOMIC, entity.getEconomicEffect());
 
-        return Activity.of(
-                entity.getId(),
-                entity.getName(),
-                entity.getDescription(),
-                entity.getDurationMinutes(),
-                entity.getCost(),
-                ActivityEffects.of(effects)
-        );
+        Activity activity = entity.getOwnerId() != null
+                ? Activity.ofUser(
+                        entity.getId(),
+                        entity.getOwnerId(),
+                        entity.getName(),
+                        entity.getDescription(),
+                        entity.getDurationMinutes(),
+                        entity.getCost(),
+                        ActivityEffects.of(effects)
+                )
+                : Activity.of(
+                        entity.getId(),
+                        entity.getName(),
+                        entity.getDescription(),
+                        entity.getDurationMinutes(),
+                        entity.getCost(),
+                        ActivityEffects.of(effects)
+                );
+
+        return entity.getGroupCode() == null ? activity : activity.inGroup(entity.getGroupCode());
     }
 
     public ActivityEntity toEntity(Activity domain) {
         return ActivityEntity.builder()
                 .id(domain.getId())
+                .ownerId(domain.getOwnerId())
+                .groupCode(domain.getGroupCode())
                 .name(domain.getName())
                 .description(domain.getDescription())
                 .durationMinutes(domain.getDurationMinutes())
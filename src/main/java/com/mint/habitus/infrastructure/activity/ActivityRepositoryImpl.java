@@ -1,11 +1,21 @@
 package com.mint.habitus.infrastructure.activity;
 
 import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityBrowseCondition;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
 import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.activity.domain.OwnedActivityRevision;
+import com.mint.habitus.infrastructure.activity.snapshot.CatalogSnapshotStore;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 @RequiredArgsConstructor
@@ -13,6 +23,11 @@ public class ActivityRepositoryImpl implements ActivityRepository {
 
     private final ActivityJpaRepository jpaRepository;
     private final ActivityMapper mapper;
+    private final CatalogSnapshotStore snapshotStore;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CatalogReloader catalogReloader;
+    private final ActivityBulkWriter bulkWriter;
+    private final ActivityKeysetReader keysetReader;
 
     @Override
     public List<Activity> findAll() {
@@ -21,6 +36,44 @@ public class ActivityRepositoryImpl implements ActivityRepository {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Activity> browse(ActivityBrowseCondition condition) {
+        return keysetReader.read(condition).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public ActivityCatalog findCatalog() {
+        return snapshotStore.current()
+                .orElseGet(catalogReloader::reload);
+    }
+
+    @Override
+    public List<Activity> findByOwnerId(Long ownerId) {
+        return jpaRepository.findByOwnerId(ownerId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Set<Long> findOwnerIds() {
+        return new HashSet<>(jpaRepository.findOwnerIds());
+    }
+
+    @Override
+    public OwnedActivityRevision findOwnedRevision(Long ownerId) {
+        return jpaRepository.findOwnedRevision(ownerId);
+    }
+
+    @Override
+    public long findCatalogVersion() {
+        return snapshotStore.current()
+                .map(ActivityCatalog::getVersion)
+                .orElseGet(catalogVersionRepository::findVersion);
+    }
+
     @Override
     public Optional<Activity> findById(Long id) {
         return jpaRepository.findById(id)
@@ -28,14 +81,57 @@ public class ActivityRepositoryImpl implements ActivityRepository {
     }
 
     @Override
+    @Transactional
     public Activity save(Activity activity) {
         ActivityEntity entity = mapper.toEntity(activity);
         ActivityEntity saved = jpaRepository.save(entity);
+        if (activity.isGlobal()) {
+            catalogVersionRepository.bump();
+            invalidateSnapshotAfterCommit();
+        }
         return mapper.toDomain(saved);
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
-        jpaRepository.deleteById(id);
+        jpaRepository.findById(id).ifPresent(entity -> {
+            jpaRepository.delete(entity);
+            if (entity.getOwnerId() == null) {
+                catalogVersionRepository.bump();
+                invalidateSnapshotAfterCommit();
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public int saveAll(Iterator<Activity> activities) {
+        int written = bulkWriter.insert(activities);
+
+        // 사용자 활동이 섞여 있어도 버전 증가는 무해하므로 행마다 구분하지 않음
+        if (written > 0) {
+            catalogVersionRepository.bump();
+            invalidateSnapshotAfterCommit();
+        }
+        return written;
+    }
+
+    /**
+     * 커밋 이후 스냅샷 무효화
+     * 커밋 전에 무효화하면 다른 요청이 아직 보이지 않는 변경 이전 데이터로 스냅샷을 다시 만들 수 있다.
+     */
+    private void invalidateSnapshotAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshotStore.invalidate();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshotStore.invalidate();
+            }
+        });
     }
 }
@@ -0,0 +1,37 @@
+package com.mint.habitus.infrastructure.activity;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.infrastructure.activity.snapshot.CatalogSnapshotStore;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB에서 전역 카탈로그를 다시 읽어 스냅샷 갱신
+ * 저장소의 findCatalog에서 자기 호출하면 트랜잭션 설정이 적용되지 않으므로 별도 빈으로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogReloader {
+
+    private final ActivityJpaRepository jpaRepository;
+    private final ActivityMapper mapper;
+    private final CatalogSnapshotStore snapshotStore;
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    /**
+     * 호출 측의 읽기 전용 트랜잭션에 참여하면 복제본에서 이전 카탈로그를 읽어 스냅샷에 남길 수 있으므로
+     * 새 쓰기 트랜잭션(주 데이터소스)에서 버전과 활동 목록을 함께 읽는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ActivityCatalog reload() {
+        long version = catalogVersionRepository.findVersionInTransaction();
+        List<Activity> globalActivities = jpaRepository.findByOwnerIdIsNull().stream()
+                .map(mapper::toDomain)
+                .toList();
+        return snapshotStore.replace(ActivityCatalog.of(version, globalActivities));
+    }
+}
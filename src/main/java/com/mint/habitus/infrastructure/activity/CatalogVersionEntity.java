@@ -0,0 +1,30 @@
+package com.mint.habitus.infrastructure.activity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 버전 (단일 행)
+ * 활동이 저장/삭제될 때마다 같은 트랜잭션에서 증가한다.
+ */
+@Entity
+@Table(name = "catalog_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CatalogVersionEntity {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+}
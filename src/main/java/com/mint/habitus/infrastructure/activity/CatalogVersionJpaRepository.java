@@ -0,0 +1,16 @@
+package com.mint.habitus.infrastructure.activity;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CatalogVersionJpaRepository extends JpaRepository<CatalogVersionEntity, Long> {
+
+    @Query("select c.version from CatalogVersionEntity c where c.id = :id")
+    Optional<Long> findVersion(Long id);
+
+    @Modifying
+    @Query("update CatalogVersionEntity c set c.version = c.version + 1 where c.id = :id")
+    int increment(Long id);
+}
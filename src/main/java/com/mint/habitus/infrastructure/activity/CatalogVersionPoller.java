@@ -0,0 +1,52 @@
+package com.mint.habitus.infrastructure.activity;
+
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.CatalogChangedEvent;
+import com.mint.habitus.infrastructure.activity.snapshot.CatalogSnapshotStore;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 카탈로그 버전 행만 조회하여 다른 노드의 변경을 감지
+ * 로컬 카탈로그(스냅샷)가 뒤처져 있으면 다시 만들고 CatalogChangedEvent를 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionPoller {
+
+    private static final long UNKNOWN = -1L;
+
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CatalogSnapshotStore snapshotStore;
+    private final CatalogReloader catalogReloader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong lastSeenVersion = new AtomicLong(UNKNOWN);
+
+    @Scheduled(fixedDelayString = "${habitus.catalog.version-poll-interval:PT2S}")
+    public void poll() {
+        try {
+            long dbVersion = catalogVersionRepository.findVersion();
+            long localVersion = snapshotStore.current()
+                    .map(ActivityCatalog::getVersion)
+                    .orElse(UNKNOWN);
+
+            if (localVersion != UNKNOWN && localVersion != dbVersion) {
+                log.info("카탈로그 버전 변경 감지 - 로컬: {}, DB: {}", localVersion, dbVersion);
+                catalogReloader.reload();
+            }
+
+            long previous = lastSeenVersion.getAndSet(dbVersion);
+            if (previous != UNKNOWN && previous != dbVersion) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(previous, dbVersion));
+            }
+        } catch (RuntimeException e) {
+            log.warn("카탈로그 버전 조회 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mint.habitus.infrastructure.activity;
+
+import static com.mint.habitus.infrastructure.activity.CatalogVersionEntity.SINGLETON_ID;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 노드가 공유하는 카탈로그 버전 행 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRepository {
+
+    private final CatalogVersionJpaRepository jpaRepository;
+
+    /**
+     * 단일 행 조회 (행이 없으면 0)
+     * 뒤처진 복제본의 버전으로 변경을 놓치지 않도록 호출 측이 읽기 전용 트랜잭션 안이어도
+     * 새 쓰기 트랜잭션을 열어 라우팅 시에도 주 데이터소스에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long findVersion() {
+        return jpaRepository.findVersion(SINGLETON_ID).orElse(0L);
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 단일 행 조회 (카탈로그 재적재처럼 활동 목록과 같은 트랜잭션에서 읽어야 할 때)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long findVersionInTransaction() {
+        return jpaRepository.findVersion(SINGLETON_ID).orElse(0L);
+    }
+
+    /**
+     * 호출한 쓰기 트랜잭션 안에서 버전 증가
+     * 행이 아직 없으면 생성하며, 다른 노드와 동시에 생성하면 한쪽 트랜잭션이 실패한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump() {
+        if (jpaRepository.increment(SINGLETON_ID) == 0) {
+            jpaRepository.save(new CatalogVersionEntity(SINGLETON_ID, 1L));
+        }
+    }
+}
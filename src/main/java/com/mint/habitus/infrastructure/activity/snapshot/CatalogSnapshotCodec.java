@@ -0,0 +1,165 @@
+package com.mint.habitus.infrastructure.activity.snapshot;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그 바이너리 스냅샷 포맷
+ *
+ * <pre>
+ * [헤더 24B] magic(4) | formatVersion(4) | catalogVersion(8) | recordCount(4) | stringTableLength(4)
+ * [레코드 68B × n] id(8) | duration(4) | cost(4) | effects(4 × 7, CapitalType 순서)
+ *                  | nameOffset(4) | nameLength(4) | descriptionOffset(4) | descriptionLength(4)
+ *                  | groupOffset(4) | groupLength(4)   (문자열 길이 -1은 null)
+ * [문자열 테이블] UTF-8 바이트
+ * </pre>
+ */
+public final class CatalogSnapshotCodec {
+
+    static final int MAGIC = 0x48424353; // "HBCS"
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_BYTES = 24;
+    static final int RECORD_BYTES = 8 + 4 + 4 + 4 * 7 + 4 * 6;
+
+    private static final CapitalType[] CAPITAL_TYPES = CapitalType.values();
+
+    private CatalogSnapshotCodec() {
+    }
+
+    /**
+     * 임시 파일에 기록 후 원자적으로 교체
+     */
+    public static void write(Path path, ActivityCatalog catalog) throws IOException {
+        List<Activity> activities = catalog.getActivities();
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + RECORD_BYTES * activities.size())
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.position(HEADER_BYTES);
+        for (Activity activity : activities) {
+            buffer.putLong(activity.getId() == null ? 0L : activity.getId());
+            buffer.putInt(activity.getDurationMinutes());
+            buffer.putInt(activity.getCost());
+            for (CapitalType type : CAPITAL_TYPES) {
+                buffer.putInt(activity.getEffectOn(type));
+            }
+            putString(buffer, strings, activity.getName());
+            putString(buffer, strings, activity.getDescription());
+            putString(buffer, strings, activity.getGroupCode());
+        }
+
+        buffer.putInt(0, MAGIC)
+                .putInt(4, FORMAT_VERSION)
+                .putLong(8, catalog.getVersion())
+                .putInt(16, activities.size())
+                .putInt(20, strings.size());
+        buffer.rewind();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "catalog", ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            ByteBuffer table = ByteBuffer.wrap(strings.toByteArray());
+            while (table.hasRemaining()) {
+                channel.write(table);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파일을 메모리 매핑하여 카탈로그 복원
+     */
+    public static ActivityCatalog read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("스냅샷 헤더가 손상되었습니다: " + path);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 포맷입니다: " + path);
+            }
+
+            long catalogVersion = mapped.getLong(8);
+            int recordCount = mapped.getInt(16);
+            int stringTableLength = mapped.getInt(20);
+            long stringTableOffset = HEADER_BYTES + (long) RECORD_BYTES * recordCount;
+
+            if (stringTableOffset + stringTableLength != size) {
+                throw new IOException("스냅샷 크기가 헤더와 일치하지 않습니다: " + path);
+            }
+
+            List<Activity> activities = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                activities.add(readRecord(mapped, HEADER_BYTES + RECORD_BYTES * i, (int) stringTableOffset));
+            }
+
+            return ActivityCatalog.of(catalogVersion, activities);
+        }
+    }
+
+    private static Activity readRecord(ByteBuffer buffer, int offset, int stringTableOffset) {
+        long id = buffer.getLong(offset);
+        int duration = buffer.getInt(offset + 8);
+        int cost = buffer.getInt(offset + 12);
+
+        Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+        for (int i = 0; i < CAPITAL_TYPES.length; i++) {
+            effects.put(CAPITAL_TYPES[i], buffer.getInt(offset + 16 + 4 * i));
+        }
+
+        int stringsAt = offset + 16 + 4 * CAPITAL_TYPES.length;
+        String name = getString(buffer, stringTableOffset, buffer.getInt(stringsAt), buffer.getInt(stringsAt + 4));
+        String description = getString(buffer, stringTableOffset, buffer.getInt(stringsAt + 8), buffer.getInt(stringsAt + 12));
+        String groupCode = getString(buffer, stringTableOffset, buffer.getInt(stringsAt + 16), buffer.getInt(stringsAt + 20));
+
+        Activity activity = Activity.of(id, name, description, duration, cost, ActivityEffects.of(effects));
+        return groupCode == null ? activity : activity.inGroup(groupCode);
+    }
+
+    private static void putString(ByteBuffer buffer, ByteArrayOutputStream strings, String value) {
+        if (value == null) {
+            buffer.putInt(0).putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(strings.size()).putInt(bytes.length);
+        strings.writeBytes(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer, int stringTableOffset, int offset, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(stringTableOffset + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
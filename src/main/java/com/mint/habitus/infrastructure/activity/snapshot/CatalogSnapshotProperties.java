@@ -0,0 +1,14 @@
+package com.mint.habitus.infrastructure.activity.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.catalog.snapshot")
+public class CatalogSnapshotProperties {
+
+    private boolean enabled = true;
+    private String path = "data/catalog-snapshot.bin";
+}
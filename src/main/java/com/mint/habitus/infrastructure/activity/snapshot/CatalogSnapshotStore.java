@@ -0,0 +1,73 @@
+package com.mint.habitus.infrastructure.activity.snapshot;
+
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 상의 카탈로그와 디스크 스냅샷을 관리
+ * 부팅 시 스냅샷을 메모리 매핑으로 읽어 JPA 초기화 전에도 추천을 제공한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotStore {
+
+    private final CatalogSnapshotProperties properties;
+
+    private volatile ActivityCatalog current;
+
+    @PostConstruct
+    void load() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Path path = Path.of(properties.getPath());
+        if (!Files.exists(path)) {
+            log.info("카탈로그 스냅샷 없음 - 첫 조회 시 DB에서 생성: {}", path);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            current = CatalogSnapshotCodec.read(path);
+            log.info("카탈로그 스냅샷 로드 - 버전: {}, 활동: {}개, {}ms",
+                    current.getVersion(), current.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("카탈로그 스냅샷 로드 실패 - DB에서 재생성: {}", e.getMessage());
+        }
+    }
+
+    public Optional<ActivityCatalog> current() {
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * 새 카탈로그로 교체하고 스냅샷 파일을 다시 기록
+     */
+    public ActivityCatalog replace(ActivityCatalog catalog) {
+        current = catalog;
+
+        if (properties.isEnabled()) {
+            try {
+                CatalogSnapshotCodec.write(Path.of(properties.getPath()), catalog);
+                log.debug("카탈로그 스냅샷 기록 - 버전: {}, 활동: {}개", catalog.getVersion(), catalog.size());
+            } catch (IOException e) {
+                log.warn("카탈로그 스냅샷 기록 실패: {}", e.getMessage());
+            }
+        }
+
+        return catalog;
+    }
+
+    public void invalidate() {
+        current = null;
+    }
+}
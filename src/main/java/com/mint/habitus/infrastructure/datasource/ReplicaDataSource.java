@@ -0,0 +1,62 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 하나와 마지막으로 확인한 상태
+ */
+@Slf4j
+public class ReplicaDataSource {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+
+    public ReplicaDataSource(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 연결을 열어 유효성 확인 후 상태 갱신
+     */
+    public boolean check(Duration validationTimeout) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isValid((int) Math.max(1, validationTimeout.toSeconds()))) {
+                markUp();
+            } else {
+                markDown("유효하지 않은 연결");
+            }
+        } catch (SQLException e) {
+            markDown(e.getMessage());
+        }
+        return healthy;
+    }
+
+    public void markDown(String reason) {
+        if (healthy) {
+            healthy = false;
+            log.warn("복제본 제외 - {}: {}", name, reason);
+        }
+    }
+
+    private void markUp() {
+        if (!healthy) {
+            healthy = true;
+            log.info("복제본 복구 - {}", name);
+        }
+    }
+}
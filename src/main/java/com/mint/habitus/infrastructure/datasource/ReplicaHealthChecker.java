@@ -0,0 +1,28 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적으로 복제본 연결을 확인하여 장애 복제본 제외 및 복구
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "habitus.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaHealthChecker {
+
+    private final ReplicaPool replicaPool;
+    private final RoutingDataSourceProperties properties;
+
+    @Scheduled(fixedDelayString = "${habitus.datasource.routing.health-check-interval:PT5S}")
+    public void check() {
+        int healthy = replicaPool.checkHealth(properties.getValidationTimeout());
+        if (healthy == 0 && !replicaPool.getReplicas().isEmpty()) {
+            log.warn("정상 복제본이 없어 읽기 전용 트랜잭션도 주 데이터소스를 사용합니다.");
+        }
+    }
+}
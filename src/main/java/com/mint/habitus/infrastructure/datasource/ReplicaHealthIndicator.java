@@ -0,0 +1,37 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본별 상태 - 복제본이 모두 내려가도 주 데이터소스로 읽으므로 UP으로 보고한다.
+ */
+@Component("replicas")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "habitus.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaHealthIndicator implements HealthIndicator {
+
+    private final ReplicaPool replicaPool;
+
+    @Override
+    public Health health() {
+        Map<String, String> replicas = new LinkedHashMap<>();
+        long healthy = 0;
+        for (ReplicaDataSource replica : replicaPool.getReplicas()) {
+            replicas.put(replica.getName(), replica.isHealthy() ? "UP" : "DOWN");
+            if (replica.isHealthy()) {
+                healthy++;
+            }
+        }
+
+        return Health.up()
+                .withDetail("healthy", healthy)
+                .withDetail("replicas", replicas)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 목록 - 정상 복제본을 라운드 로빈 순서로 제공한다.
+ */
+public class ReplicaPool implements AutoCloseable {
+
+    private final List<ReplicaDataSource> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(List<ReplicaDataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 요청마다 시작 위치를 하나씩 옮긴 정상 복제본 목록 (앞에서부터 시도)
+     */
+    public List<ReplicaDataSource> candidates() {
+        int size = replicas.size();
+        if (size == 0) {
+            return List.of();
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        List<ReplicaDataSource> candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ReplicaDataSource replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                candidates.add(replica);
+            }
+        }
+        return candidates;
+    }
+
+    public int checkHealth(Duration validationTimeout) {
+        int healthy = 0;
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.check(validationTimeout)) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaDataSource replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
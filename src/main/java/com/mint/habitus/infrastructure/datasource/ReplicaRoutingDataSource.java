@@ -0,0 +1,52 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 읽기 전용 연결 - 정상 복제본을 차례로 시도하고, 모두 실패하면 주 데이터소스 사용
+ * 연결에 실패한 복제본은 다음 상태 확인에서 복구될 때까지 제외한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaPool replicaPool;
+    private final DataSource primary;
+
+    public ReplicaRoutingDataSource(ReplicaPool replicaPool, DataSource primary) {
+        this.replicaPool = replicaPool;
+        this.primary = primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        for (ReplicaDataSource replica : replicaPool.candidates()) {
+            try {
+                return opener.open(replica.getDataSource());
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+
+        log.debug("사용 가능한 복제본이 없어 주 데이터소스에서 읽기");
+        return opener.open(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
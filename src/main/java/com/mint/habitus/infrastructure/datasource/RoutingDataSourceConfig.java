@@ -0,0 +1,75 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import com.mint.habitus.infrastructure.datasource.RoutingDataSourceProperties.Endpoint;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 조회, 배치 저장)는 주 데이터소스로 보낸다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 연결에 아직 반영되지 않으므로
+ * LazyConnectionDataSourceProxy로 첫 쿼리까지 실제 연결을 미루고 Connection.setReadOnly 여부로 대상을 고른다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "habitus.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    /**
+     * 기본 구성과 같이 spring.datasource.hikari 설정(풀 크기, 대기 시간 등)을 주 데이터소스에 적용
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(RoutingDataSourceProperties properties) {
+        List<ReplicaDataSource> replicas = properties.getReplicas().stream()
+                .map(RoutingDataSourceConfig::createReplica)
+                .toList();
+        return new ReplicaPool(replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool) {
+        return route(primaryDataSource, replicaPool);
+    }
+
+    static DataSource route(DataSource primary, ReplicaPool replicaPool) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(replicaPool, primary));
+        return proxy;
+    }
+
+    private static ReplicaDataSource createReplica(Endpoint endpoint) {
+        if (endpoint.getUrl() == null || endpoint.getUrl().isBlank()) {
+            throw new IllegalArgumentException("복제본 URL은 필수입니다: " + endpoint.getName());
+        }
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + endpoint.getName());
+        dataSource.setJdbcUrl(endpoint.getUrl());
+        dataSource.setUsername(endpoint.getUsername());
+        dataSource.setPassword(endpoint.getPassword());
+        dataSource.setMaximumPoolSize(endpoint.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(endpoint.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // 복제본이 내려가 있어도 애플리케이션은 시작 (상태 확인에서 제외)
+        dataSource.setInitializationFailTimeout(-1);
+        return new ReplicaDataSource(endpoint.getName(), dataSource);
+    }
+}
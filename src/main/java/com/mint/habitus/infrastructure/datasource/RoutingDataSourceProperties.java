@@ -0,0 +1,38 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 데이터소스 라우팅 설정 (주 데이터소스는 spring.datasource)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "habitus.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private List<Endpoint> replicas = new ArrayList<>();
+
+    // 상태 확인 시 Connection.isValid 대기 시간
+    private Duration validationTimeout = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        // 복제본 연결 대기 시간 - 짧게 두어 장애 시 빠르게 다음 복제본(또는 주 데이터소스)으로 넘어간다
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.mint.habitus.infrastructure.history;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천 이력 JPA Entity
+ * IDENTITY 전략은 INSERT마다 즉시 실행되어 JDBC 배치가 비활성화되므로 풀링 시퀀스를 사용한다.
+ */
+@Entity
+@Table(
+        name = "recommendation_histories",
+        indexes = @Index(name = "idx_recommendation_histories_user_created", columnList = "user_id, created_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RecommendationHistoryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recommendation_history_seq")
+    @SequenceGenerator(name = "recommendation_history_seq", sequenceName = "recommendation_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "priority_code", nullable = false, length = 7)
+    private String priorityCode;
+
+    @Column(name = "available_minutes", nullable = false)
+    private Integer availableMinutes;
+
+    // 쉼표로 구분된 활동 ID 목록 (선택 수에 상한이 없어 길이 제한 없는 CLOB/TEXT)
+    @Lob
+    @Column(name = "selected_activity_ids", nullable = false)
+    private String selectedActivityIds;
+
+    @Column(name = "total_value", nullable = false)
+    private Integer totalValue;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
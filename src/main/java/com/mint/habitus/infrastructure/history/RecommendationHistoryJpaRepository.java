@@ -0,0 +1,13 @@
+package com.mint.habitus.infrastructure.history;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RecommendationHistoryJpaRepository extends JpaRepository<RecommendationHistoryEntity, Long> {
+
+    List<RecommendationHistoryEntity> findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            Long userId,
+            LocalDateTime since
+    );
+}
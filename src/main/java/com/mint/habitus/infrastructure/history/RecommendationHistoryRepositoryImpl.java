@@ -0,0 +1,64 @@
+package com.mint.habitus.infrastructure.history;
+
+import com.mint.habitus.domain.history.domain.RecommendationHistory;
+import com.mint.habitus.domain.history.domain.RecommendationHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class RecommendationHistoryRepositoryImpl implements RecommendationHistoryRepository {
+
+    private final RecommendationHistoryJpaRepository jpaRepository;
+
+    @Override
+    @Transactional
+    public void saveAll(List<RecommendationHistory> histories) {
+        jpaRepository.saveAll(histories.stream()
+                .map(this::toEntity)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecommendationHistory> findByUserIdSince(Long userId, LocalDateTime since) {
+        return jpaRepository.findByUserIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(userId, since).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private RecommendationHistoryEntity toEntity(RecommendationHistory history) {
+        return RecommendationHistoryEntity.builder()
+                .userId(history.getUserId())
+                .priorityCode(history.getPriorityCode())
+                .availableMinutes(history.getAvailableMinutes())
+                .selectedActivityIds(history.getSelectedActivityIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .totalValue(history.getTotalValue())
+                .createdAt(history.getRecommendedAt())
+                .build();
+    }
+
+    private RecommendationHistory toDomain(RecommendationHistoryEntity entity) {
+        List<Long> ids = entity.getSelectedActivityIds().isEmpty()
+                ? List.of()
+                : Arrays.stream(entity.getSelectedActivityIds().split(","))
+                        .map(Long::valueOf)
+                        .toList();
+
+        return RecommendationHistory.builder()
+                .userId(entity.getUserId())
+                .priorityCode(entity.getPriorityCode())
+                .availableMinutes(entity.getAvailableMinutes())
+                .selectedActivityIds(ids)
+                .totalValue(entity.getTotalValue())
+                .recommendedAt(entity.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.mint.habitus.infrastructure.plan;
+
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * weekly_plans JDBC 배치 교체 (기존 행 삭제 → 배치 INSERT)
+ * H2와 MySQL의 UPSERT 문법이 달라 삭제 후 삽입으로 처리하며, 호출 측 트랜잭션에 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WeeklyPlanBatchWriter {
+
+    private static final String DELETE_SQL = "delete from weekly_plans where user_id = ?";
+
+    private static final String INSERT_SQL = """
+            insert into weekly_plans (user_id, catalog_version, priority_code, available_minutes,
+                selected_activity_ids, total_value, total_minutes, computed_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void replace(List<WeeklyPlan> plans) {
+        if (plans.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, plans, plans.size(),
+                (ps, plan) -> ps.setLong(1, plan.getUserId()));
+        jdbcTemplate.batchUpdate(INSERT_SQL, plans, plans.size(), this::bind);
+    }
+
+    private void bind(PreparedStatement ps, WeeklyPlan plan) throws SQLException {
+        ps.setLong(1, plan.getUserId());
+        ps.setLong(2, plan.getCatalogVersion());
+        ps.setString(3, plan.getPriorityCode());
+        ps.setInt(4, plan.getAvailableMinutes());
+        ps.setString(5, plan.getSelectedActivityIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+        ps.setInt(6, plan.getTotalValue());
+        ps.setInt(7, plan.getTotalMinutes());
+        ps.setTimestamp(8, Timestamp.valueOf(plan.getComputedAt()));
+    }
+}
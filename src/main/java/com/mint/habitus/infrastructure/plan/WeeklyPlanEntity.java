@@ -0,0 +1,52 @@
+package com.mint.habitus.infrastructure.plan;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미리 계산한 주간 추천 JPA Entity (사용자당 한 행, 쓰기는 WeeklyPlanBatchWriter)
+ */
+@Entity
+@Table(name = "weekly_plans")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class WeeklyPlanEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "catalog_version", nullable = false)
+    private Long catalogVersion;
+
+    @Column(name = "priority_code", nullable = false, length = 7)
+    private String priorityCode;
+
+    @Column(name = "available_minutes", nullable = false)
+    private Integer availableMinutes;
+
+    // 쉼표로 구분된 활동 ID 목록 (선택 수에 상한이 없어 길이 제한 없는 CLOB/TEXT)
+    @Lob
+    @Column(name = "selected_activity_ids", nullable = false)
+    private String selectedActivityIds;
+
+    @Column(name = "total_value", nullable = false)
+    private Integer totalValue;
+
+    @Column(name = "total_minutes", nullable = false)
+    private Integer totalMinutes;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
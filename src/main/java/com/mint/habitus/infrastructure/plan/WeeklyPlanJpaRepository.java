@@ -0,0 +1,6 @@
+package com.mint.habitus.infrastructure.plan;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WeeklyPlanJpaRepository extends JpaRepository<WeeklyPlanEntity, Long> {
+}
@@ -0,0 +1,50 @@
+package com.mint.habitus.infrastructure.plan;
+
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import com.mint.habitus.domain.plan.domain.WeeklyPlanRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class WeeklyPlanRepositoryImpl implements WeeklyPlanRepository {
+
+    private final WeeklyPlanJpaRepository jpaRepository;
+    private final WeeklyPlanBatchWriter batchWriter;
+
+    @Override
+    @Transactional
+    public void saveAll(List<WeeklyPlan> plans) {
+        batchWriter.replace(plans);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<WeeklyPlan> findByUserId(Long userId) {
+        return jpaRepository.findById(userId)
+                .map(this::toDomain);
+    }
+
+    private WeeklyPlan toDomain(WeeklyPlanEntity entity) {
+        List<Long> ids = entity.getSelectedActivityIds().isEmpty()
+                ? List.of()
+                : Arrays.stream(entity.getSelectedActivityIds().split(","))
+                        .map(Long::valueOf)
+                        .toList();
+
+        return WeeklyPlan.builder()
+                .userId(entity.getUserId())
+                .catalogVersion(entity.getCatalogVersion())
+                .priorityCode(entity.getPriorityCode())
+                .availableMinutes(entity.getAvailableMinutes())
+                .selectedActivityIds(ids)
+                .totalValue(entity.getTotalValue())
+                .totalMinutes(entity.getTotalMinutes())
+                .computedAt(entity.getComputedAt())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.mint.habitus.infrastructure.priority;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 우선순위 프로필 JPA Entity (사용자당 한 행)
+ * 묶음 집계와 묶음별 사용자 조회를 위해 (priority_code, available_minutes, user_id) 인덱스를 둔다.
+ */
+@Entity
+@Table(
+        name = "priority_profiles",
+        indexes = @Index(name = "idx_priority_profiles_group", columnList = "priority_code, available_minutes, user_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PriorityProfileEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "priority_code", nullable = false, length = 7)
+    private String priorityCode;
+
+    @Column(name = "available_minutes", nullable = false)
+    private Integer availableMinutes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.mint.habitus.infrastructure.priority;
+
+import com.mint.habitus.domain.priority.domain.ProfileGroup;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PriorityProfileJpaRepository extends JpaRepository<PriorityProfileEntity, Long> {
+
+    @Query("""
+            select new com.mint.habitus.domain.priority.domain.ProfileGroup(p.priorityCode, p.availableMinutes, count(p))
+            from PriorityProfileEntity p
+            group by p.priorityCode, p.availableMinutes
+            """)
+    List<ProfileGroup> findGroups();
+
+    @Query("""
+            select p.userId
+            from PriorityProfileEntity p
+            where p.priorityCode = :priorityCode and p.availableMinutes = :availableMinutes and p.userId > :afterUserId
+            order by p.userId
+            """)
+    List<Long> findUserIds(String priorityCode, int availableMinutes, long afterUserId, Pageable pageable);
+}
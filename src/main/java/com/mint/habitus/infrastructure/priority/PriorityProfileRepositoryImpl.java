@@ -0,0 +1,62 @@
+package com.mint.habitus.infrastructure.priority;
+
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import com.mint.habitus.domain.priority.domain.PriorityProfileRepository;
+import com.mint.habitus.domain.priority.domain.ProfileGroup;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class PriorityProfileRepositoryImpl implements PriorityProfileRepository {
+
+    private final PriorityProfileJpaRepository jpaRepository;
+
+    @Override
+    @Transactional
+    public PriorityProfile save(PriorityProfile profile) {
+        return toDomain(jpaRepository.save(toEntity(profile)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PriorityProfile> findByUserId(Long userId) {
+        return jpaRepository.findById(userId)
+                .map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProfileGroup> findGroups() {
+        return jpaRepository.findGroups();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findUserIds(ProfileGroup group, long afterUserId, int limit) {
+        return jpaRepository.findUserIds(
+                group.priorityCode(), group.availableMinutes(), afterUserId, PageRequest.of(0, limit));
+    }
+
+    private PriorityProfileEntity toEntity(PriorityProfile profile) {
+        return PriorityProfileEntity.builder()
+                .userId(profile.getUserId())
+                .priorityCode(profile.getPriorityCode())
+                .availableMinutes(profile.getAvailableMinutes())
+                .updatedAt(profile.getUpdatedAt())
+                .build();
+    }
+
+    private PriorityProfile toDomain(PriorityProfileEntity entity) {
+        return PriorityProfile.builder()
+                .userId(entity.getUserId())
+                .priorityCode(entity.getPriorityCode())
+                .availableMinutes(entity.getAvailableMinutes())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+}
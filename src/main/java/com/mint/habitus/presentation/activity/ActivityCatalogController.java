@@ -0,0 +1,35 @@
+package com.mint.habitus.presentation.activity;
+
+import com.mint.habitus.application.activity.ActivityBrowseService;
+import com.mint.habitus.application.activity.dto.ActivityBrowseResponse;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/activities")
+@RequiredArgsConstructor
+public class ActivityCatalogController {
+
+    private final ActivityBrowseService activityBrowseService;
+
+    /**
+     * 예) ?capital=KNOWLEDGE&minEffect=3&limit=50, 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     */
+    @GetMapping
+    public ResponseEntity<ActivityBrowseResponse> browse(
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration,
+            @RequestParam(required = false) CapitalType capital,
+            @RequestParam(required = false) Integer minEffect,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(activityBrowseService.browse(
+                minDuration, maxDuration, capital, minEffect, cursor, limit));
+    }
+}
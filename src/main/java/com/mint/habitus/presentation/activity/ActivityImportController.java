@@ -0,0 +1,30 @@
+package com.mint.habitus.presentation.activity;
+
+import com.mint.habitus.application.activity.ActivityImportService;
+import com.mint.habitus.application.activity.dto.ActivityImportResponse;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/activities/import")
+@RequiredArgsConstructor
+public class ActivityImportController {
+
+    private final ActivityImportService activityImportService;
+
+    /**
+     * 요청 본문(text/csv)을 스트리밍으로 읽어 등록
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ActivityImportResponse> importCsv(InputStream body) {
+        log.info("POST /api/activities/import");
+
+        return ResponseEntity.ok(activityImportService.importCsv(body));
+    }
+}
@@ -0,0 +1,48 @@
+package com.mint.habitus.presentation.activity;
+
+import com.mint.habitus.application.activity.UserActivityService;
+import com.mint.habitus.application.activity.dto.UserActivityRequest;
+import com.mint.habitus.application.activity.dto.UserActivityResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/users/{userId}/activities")
+@RequiredArgsConstructor
+public class UserActivityController {
+
+    private final UserActivityService userActivityService;
+
+    @GetMapping
+    public ResponseEntity<List<UserActivityResponse>> findActivities(@PathVariable Long userId) {
+        return ResponseEntity.ok(userActivityService.findActivities(userId));
+    }
+
+    @PostMapping
+    public ResponseEntity<UserActivityResponse> addActivity(
+            @PathVariable Long userId,
+            @RequestBody UserActivityRequest request
+    ) {
+        log.info("POST /api/users/{}/activities - name: {}", userId, request.getName());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(userActivityService.addActivity(userId, request));
+    }
+
+    @DeleteMapping("/{activityId}")
+    public ResponseEntity<Void> removeActivity(@PathVariable Long userId, @PathVariable Long activityId) {
+        userActivityService.removeActivity(userId, activityId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mint.habitus.presentation.plan;
+
+import com.mint.habitus.application.plan.WeeklyPlanService;
+import com.mint.habitus.application.plan.WeeklyPlanStreamService;
+import com.mint.habitus.application.plan.dto.PriorityProfileRequest;
+import com.mint.habitus.application.plan.dto.PriorityProfileResponse;
+import com.mint.habitus.application.plan.dto.WeeklyPlanResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/users/{userId}")
+@RequiredArgsConstructor
+public class WeeklyPlanController {
+
+    private final WeeklyPlanService weeklyPlanService;
+    private final WeeklyPlanStreamService weeklyPlanStreamService;
+
+    @PutMapping("/priority-profile")
+    public ResponseEntity<PriorityProfileResponse> saveProfile(
+            @PathVariable Long userId,
+            @RequestBody PriorityProfileRequest request
+    ) {
+        log.info("PUT /api/users/{}/priority-profile - priorityCode: {}, 가용시간: {}분",
+                userId, request.getPriorityCode(), request.getAvailableMinutes());
+
+        return ResponseEntity.ok(weeklyPlanService.saveProfile(userId, request));
+    }
+
+    @GetMapping("/priority-profile")
+    public ResponseEntity<PriorityProfileResponse> findProfile(@PathVariable Long userId) {
+        return ResponseEntity.of(weeklyPlanService.findProfile(userId));
+    }
+
+    /**
+     * 정기 갱신으로 미리 계산된 주간 계획 (아직 계산되지 않았으면 404)
+     */
+    @GetMapping("/weekly-plan")
+    public ResponseEntity<WeeklyPlanResponse> findPlan(@PathVariable Long userId) {
+        return ResponseEntity.of(weeklyPlanService.findPlan(userId));
+    }
+
+    /**
+     * 저장된 프로필의 주간 계획 구독 (SSE) - 연결 직후 한 번, 이후 카탈로그가 바뀔 때마다 전송
+     */
+    @GetMapping(value = "/weekly-plan/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePlan(@PathVariable Long userId) {
+        log.info("GET /api/users/{}/weekly-plan/stream", userId);
+
+        return weeklyPlanStreamService.subscribe(userId);
+    }
+}
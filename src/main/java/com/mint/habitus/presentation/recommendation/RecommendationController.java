@@ -1,14 +1,35 @@
 package com.mint.habitus.presentation.recommendation;
 
 import com.mint.habitus.application.recommendation.ActivityRecommendationService;
+import com.mint.habitus.application.recommendation.dto.HorizonRequest;
+import com.mint.habitus.application.recommendation.dto.HorizonResponse;
 import com.mint.habitus.application.recommendation.dto.RecommendationRequest;
 import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import com.mint.habitus.application.recommendation.dto.ValueCurveRequest;
+import com.mint.habitus.application.recommendation.dto.ValueCurveResponse;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.priority.domain.Priority;
+import com.mint.habitus.domain.recommendation.domain.RecommendationObjective;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -21,15 +42,172 @@ public class RecommendationController {
 
     @PostMapping
     public ResponseEntity<RecommendationResponse> optimizeWeekly(
-            @RequestBody RecommendationRequest request
+            @RequestBody RecommendationRequest request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
         log.info("POST /api/activities/recommendation - userId: {}", request.getUserId());
 
-        RecommendationResponse response = activityRecommendationService.recommendWeeklyActivities(request);
+        return respond(request, ifNoneMatch, accept);
+    }
+
+    /**
+     * 캐시 가능한 조회용 (예: ?availableMinutes=600&priorityCode=3211211&fields=totalValue,selectedActivities.id)
+     */
+    @GetMapping
+    public ResponseEntity<RecommendationResponse> getWeekly(
+            @RequestParam(required = false) Long userId,
+            @RequestParam Integer availableMinutes,
+            @RequestParam(required = false) String priorityCode,
+            @RequestParam(required = false) RecommendationObjective objective,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        log.info("GET /api/activities/recommendation - userId: {}", userId);
+
+        RecommendationRequest request = RecommendationRequest.builder()
+                .userId(userId)
+                .availableMinutes(availableMinutes)
+                .priorities(toPriorityMap(priorityCode))
+                .objective(objective)
+                .fields(fields)
+                .build();
+
+        return respond(request, ifNoneMatch, accept);
+    }
+
+    /**
+     * 가용 시간별 최적 가치 곡선 (예: ?priorityCode=3211211&points=600,900&deltaMinutes=60)
+     */
+    @GetMapping("/curve")
+    public ResponseEntity<ValueCurveResponse> getValueCurve(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String priorityCode,
+            @RequestParam(required = false) Integer maxMinutes,
+            @RequestParam(required = false) List<Integer> points,
+            @RequestParam(required = false) Integer deltaMinutes,
+            @RequestParam(required = false) Integer maxPoints
+    ) {
+        log.info("GET /api/activities/recommendation/curve - userId: {}", userId);
+
+        ValueCurveRequest request = ValueCurveRequest.builder()
+                .userId(userId)
+                .priorities(toPriorityMap(priorityCode))
+                .maxMinutes(maxMinutes)
+                .points(points)
+                .deltaMinutes(deltaMinutes)
+                .maxPoints(maxPoints)
+                .build();
+
+        return ResponseEntity.ok(activityRecommendationService.findValueCurve(request));
+    }
+
+    /**
+     * 여러 주 계획 - 주별 가용 시간과 활동 최대 반복 주 수를 받아 주마다 하나의 추천
+     */
+    @PostMapping("/horizon")
+    public ResponseEntity<HorizonResponse> planHorizon(@RequestBody HorizonRequest request) {
+        log.info("POST /api/activities/recommendation/horizon - userId: {}, 주별 가용시간: {}, 최대 반복: {}",
+                request.getUserId(), request.getWeeklyAvailableMinutes(), request.getMaxRepeats());
+
+        return ResponseEntity.ok(activityRecommendationService.recommendHorizon(request));
+    }
+
+    /**
+     * ETag가 일치하면 최적화/직렬화 없이 304 응답
+     * 카탈로그는 한 번만 읽어 ETag와 본문 계산에 함께 사용한다 (본문이 ETag보다 이전 버전으로 캐시되지 않도록).
+     * 304는 클라이언트가 가진 추천을 재사용하는 것이므로 추천 이력은 실제로 계산해 내려준 200 응답만 기록된다.
+     */
+    private ResponseEntity<RecommendationResponse> respond(
+            RecommendationRequest request,
+            String ifNoneMatch,
+            String accept
+    ) {
+        ActivityCatalog catalog = activityRecommendationService.findCatalog();
+        String eTag = representationETag(activityRecommendationService.resolveETag(request, catalog), accept);
+        CacheControl cacheControl = cacheControl(request);
+
+        if (matches(ifNoneMatch, eTag)) {
+            log.debug("추천 응답 재사용 (304) - ETag: {}", eTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+
+        RecommendationResponse response = activityRecommendationService.recommendWeeklyActivities(request, catalog);
 
         log.info("최적화 완료 - 총 가치: {}, 활동 수: {}",
                 response.getTotalValue(), response.getActivityCount());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
+    }
+
+    /**
+     * 강한 ETag는 표현마다 달라야 하므로 CBOR 응답은 접미사를 붙인다.
+     * 콘텐츠 협상과 같은 순서(q 값 → 구체성)로 정렬해 JSON과 CBOR 중 먼저 나오는 쪽을 따른다 (와일드카드는 JSON, q=0은 제외).
+     */
+    private String representationETag(String eTag, String accept) {
+        if (accept == null) {
+            return eTag;
+        }
+
+        List<MediaType> mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return eTag;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_CBOR)) {
+                return eTag.substring(0, eTag.length() - 1) + "-cbor\"";
+            }
+        }
+        return eTag;
+    }
+
+    /**
+     * 카탈로그는 언제든 바뀔 수 있으므로 매번 재검증, 사용자 활동이 섞이면 공유 캐시에 저장하지 않음
+     */
+    private CacheControl cacheControl(RecommendationRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(0, TimeUnit.SECONDS).mustRevalidate();
+        return request.getUserId() == null ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+    private boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        // If-None-Match는 약한 비교 (W/ 접두사 무시)
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Integer> toPriorityMap(String priorityCode) {
+        if (priorityCode == null) {
+            return null;
+        }
+
+        Priority priority = Priority.fromCode(priorityCode);
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        for (CapitalType type : CapitalType.values()) {
+            priorities.put(type.name(), priority.getWeight(type));
+        }
+        return priorities;
     }
 }
@@ -0,0 +1,57 @@
+package com.mint.habitus.presentation.recommendation;
+
+import com.mint.habitus.application.recommendation.dto.RecommendationJobResponse;
+import com.mint.habitus.application.recommendation.dto.RecommendationRequest;
+import com.mint.habitus.application.recommendation.job.JobLane;
+import com.mint.habitus.application.recommendation.job.RecommendationJob;
+import com.mint.habitus.application.recommendation.job.RecommendationJobService;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/activities/recommendation/jobs")
+@RequiredArgsConstructor
+public class RecommendationJobController {
+
+    private final RecommendationJobService recommendationJobService;
+
+    @PostMapping
+    public ResponseEntity<RecommendationJobResponse> submit(
+            @RequestBody RecommendationRequest request,
+            @RequestParam(defaultValue = "NORMAL") JobLane lane
+    ) {
+        log.info("POST /api/activities/recommendation/jobs - userId: {}, lane: {}", request.getUserId(), lane);
+
+        RecommendationJob job = recommendationJobService.submit(request, lane);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Location", "/api/activities/recommendation/jobs/" + job.getId())
+                .body(RecommendationJobResponse.from(job));
+    }
+
+    /**
+     * waitSeconds > 0 이면 작업이 끝날 때까지 비동기로 대기 (long-poll)
+     */
+    @GetMapping("/{jobId}")
+    public CompletableFuture<ResponseEntity<RecommendationJobResponse>> poll(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") long waitSeconds
+    ) {
+        return recommendationJobService.await(jobId, Duration.ofSeconds(waitSeconds))
+                .thenApply(job -> ResponseEntity
+                        .status(job.getStatus().isFinished() ? HttpStatus.OK : HttpStatus.ACCEPTED)
+                        .body(RecommendationJobResponse.from(job)));
+    }
+}
@@ -0,0 +1,32 @@
+package com.mint.habitus.presentation.recommendation.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 자본 이름 → 값 맵을 CapitalType.ordinal() 순서의 정수 배열로 기록 (없는 자본은 0)
+ */
+public class CapitalVectorSerializer extends StdSerializer<Map<String, Integer>> {
+
+    private static final CapitalType[] CAPITAL_TYPES = CapitalType.values();
+
+    @SuppressWarnings("unchecked")
+    public CapitalVectorSerializer() {
+        super((Class<Map<String, Integer>>) (Class<?>) Map.class);
+    }
+
+    @Override
+    public void serialize(Map<String, Integer> value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        int[] vector = new int[CAPITAL_TYPES.length];
+        for (CapitalType type : CAPITAL_TYPES) {
+            Integer effect = value.get(type.name());
+            vector[type.ordinal()] = effect == null ? 0 : effect;
+        }
+        gen.writeArray(vector, 0, vector.length);
+    }
+}
@@ -0,0 +1,27 @@
+package com.mint.habitus.presentation.recommendation.encoding;
+
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 추천 응답 CBOR 변환기 등록
+ * JSON 변환기보다 뒤, 기본 CBOR 변환기보다 앞에 두어 JSON은 기본값으로 유지한다.
+ */
+@Configuration
+public class CompactEncodingWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int index = converters.size();
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                index = i;
+                break;
+            }
+        }
+        converters.add(index, new RecommendationCborHttpMessageConverter());
+    }
+}
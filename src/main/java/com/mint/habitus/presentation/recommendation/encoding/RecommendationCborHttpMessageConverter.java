@@ -0,0 +1,62 @@
+package com.mint.habitus.presentation.recommendation.encoding;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse.RecommendedActivity;
+import java.lang.reflect.Type;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+/**
+ * Accept: application/cbor 요청에 대한 추천 응답 압축 인코딩
+ * 필드 구조는 JSON과 같고, 자본별 맵만 CapitalType 순서의 정수 배열로 기록한다.
+ */
+public class RecommendationCborHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public RecommendationCborHttpMessageConverter() {
+        super(compactMapper(), MediaType.APPLICATION_CBOR);
+    }
+
+    public static ObjectMapper compactMapper() {
+        return CBORMapper.builder()
+                .findAndAddModules()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .addMixIn(RecommendationResponse.class, CompactResponse.class)
+                .addMixIn(RecommendedActivity.class, CompactActivity.class)
+                .build();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RecommendationResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    private abstract static class CompactResponse {
+
+        @JsonSerialize(using = CapitalVectorSerializer.class)
+        abstract Map<String, Integer> getTotalCapitalGain();
+    }
+
+    private abstract static class CompactActivity {
+
+        @JsonSerialize(using = CapitalVectorSerializer.class)
+        abstract Map<String, Integer> getOriginalEffects();
+
+        @JsonSerialize(using = CapitalVectorSerializer.class)
+        abstract Map<String, Integer> getWeightedEffects();
+    }
+}
@@ -0,0 +1,79 @@
+package com.mint.habitus.application.activity;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ActivityCsvReader 테스트")
+class ActivityCsvReaderTest {
+
+    @Test
+    @DisplayName("유효한 행은 Activity로 변환하고, 검증 실패 행은 줄 번호와 함께 건너뜀")
+    void read_skipsInvalidRows() {
+        // given
+        String csv = """
+                name,description,durationMinutes,cost,groupCode,PHYSICAL,MENTAL
+                운동 30분,"가벼운 ""홈트""\",30,0,EXERCISE,4,1
+                명상 20분,,20,,,,4
+                ,이름 없음,10,0,,1,0
+                독서,시간 오류,abc,0,,0,0
+                과로,음수 효과,60,0,,-1,0
+                """;
+
+        // when
+        ActivityCsvReader reader = new ActivityCsvReader(new BufferedReader(new StringReader(csv)));
+        List<Activity> activities = new ArrayList<>();
+        reader.forEachRemaining(activities::add);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(activities).extracting(Activity::getName).containsExactly("운동 30분", "명상 20분");
+            softly.assertThat(activities.get(0).getDescription()).isEqualTo("가벼운 \"홈트\"");
+            softly.assertThat(activities.get(0).getGroupCode()).isEqualTo("EXERCISE");
+            softly.assertThat(activities.get(0).getEffectOn(CapitalType.PHYSICAL)).isEqualTo(4);
+            softly.assertThat(activities.get(1).getDescription()).isNull();
+            softly.assertThat(activities.get(1).getEffectOn(CapitalType.MENTAL)).isEqualTo(4);
+            softly.assertThat(activities.get(1).isGrouped()).isFalse();
+
+            softly.assertThat(reader.getRejectedCount()).isEqualTo(3);
+            softly.assertThat(reader.getErrors())
+                    .extracting(ActivityCsvReader.RowError::line)
+                    .containsExactly(4, 5, 6);
+        });
+    }
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 문자열은 해당 줄 번호와 함께 거부")
+    void read_rejectsTooLongText() {
+        // given
+        String csv = "name,description,durationMinutes,groupCode\n"
+                + "운동 30분,,30,\n"
+                + "a".repeat(ActivityCsvReader.MAX_NAME_LENGTH + 1) + ",,30,\n"
+                + "독서 60분," + "b".repeat(ActivityCsvReader.MAX_DESCRIPTION_LENGTH + 1) + ",60,\n"
+                + "명상 20분,,20," + "c".repeat(ActivityCsvReader.MAX_GROUP_CODE_LENGTH + 1) + "\n"
+                + "b".repeat(ActivityCsvReader.MAX_NAME_LENGTH) + ",,10,\n";
+
+        // when
+        ActivityCsvReader reader = new ActivityCsvReader(new BufferedReader(new StringReader(csv)));
+        List<Activity> activities = new ArrayList<>();
+        reader.forEachRemaining(activities::add);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(activities).hasSize(2);
+            softly.assertThat(reader.getRejectedCount()).isEqualTo(3);
+            softly.assertThat(reader.getErrors())
+                    .extracting(ActivityCsvReader.RowError::line)
+                    .containsExactly(3, 4, 5);
+            softly.assertThat(reader.getErrors())
+                    .extracting(ActivityCsvReader.RowError::message)
+                    .allMatch(message -> message.contains("최대"));
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package com.mint.habitus.application.history;
+
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.domain.history.domain.RecommendationHistory;
+import com.mint.habitus.domain.history.domain.RecommendationHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@DisplayName("RecommendationHistoryRecorder 테스트")
+class RecommendationHistoryRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryHistoryRepository historyRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        historyRepository = new InMemoryHistoryRepository();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("기록한 이력이 배치로 저장됨")
+    void record_persistsHistory() throws InterruptedException {
+        // given
+        RecommendationHistoryRecorder recorder = new RecommendationHistoryRecorder(
+                historyRepository, properties(true), meterRegistry);
+        recorder.start();
+        RecommendationHistory history = history(1L, List.of(10L, 20L), 42);
+
+        // when
+        recorder.record(history);
+        recorder.stop();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(historyRepository.saved).hasSize(1);
+            RecommendationHistory saved = historyRepository.saved.get(0);
+            softly.assertThat(saved.getUserId()).isEqualTo(1L);
+            softly.assertThat(saved.getPriorityCode()).isEqualTo("1111111");
+            softly.assertThat(saved.getAvailableMinutes()).isEqualTo(600);
+            softly.assertThat(saved.getSelectedActivityIds()).containsExactly(10L, 20L);
+            softly.assertThat(saved.getTotalValue()).isEqualTo(42);
+            softly.assertThat(meterRegistry.counter("habitus.recommendation.history.written").count())
+                    .isEqualTo(1.0);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("4000자를 넘는 선택 목록도 같은 배치의 다른 이력과 함께 DB에 저장")
+    void record_longSelection_persistsWholeBatch() throws InterruptedException {
+        // given: 1,000개 × 7자리 ID (쉼표 포함 약 8,000자)
+        context = new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:history-recorder;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve("catalog.bin"),
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+        RecommendationHistoryRepository jpaHistoryRepository = context.getBean(RecommendationHistoryRepository.class);
+        RecommendationHistoryRecorder recorder = new RecommendationHistoryRecorder(
+                jpaHistoryRepository, properties(true), meterRegistry);
+
+        List<Long> activityIds = new ArrayList<>();
+        for (long id = 1_000_000; id < 1_001_000; id++) {
+            activityIds.add(id);
+        }
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        recorder.start();
+
+        // when
+        recorder.record(history(1L, activityIds, 1_000));
+        recorder.record(history(2L, List.of(10L), 5));
+        recorder.stop();
+
+        // then
+        List<RecommendationHistory> longSelection = jpaHistoryRepository.findByUserIdSince(1L, since);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(longSelection).hasSize(1);
+            softly.assertThat(longSelection.get(0).getSelectedActivityIds()).containsExactlyElementsOf(activityIds);
+            softly.assertThat(jpaHistoryRepository.findByUserIdSince(2L, since)).hasSize(1);
+            softly.assertThat(meterRegistry.counter("habitus.recommendation.history.failed").count()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("비활성화하면 기록하지 않음")
+    void record_disabled_ignoresHistory() throws InterruptedException {
+        // given
+        RecommendationHistoryRecorder recorder = new RecommendationHistoryRecorder(
+                historyRepository, properties(false), meterRegistry);
+        recorder.start();
+
+        // when
+        recorder.record(history(1L, List.of(10L), 5));
+        recorder.stop();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(historyRepository.saved).isEmpty();
+            softly.assertThat(meterRegistry.counter("habitus.recommendation.history.enqueued").count())
+                    .isZero();
+        });
+    }
+
+    private RecommendationHistoryProperties properties(boolean enabled) {
+        RecommendationHistoryProperties properties = new RecommendationHistoryProperties();
+        properties.setEnabled(enabled);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        properties.setShutdownTimeout(Duration.ofSeconds(5));
+        return properties;
+    }
+
+    private RecommendationHistory history(Long userId, List<Long> activityIds, int totalValue) {
+        return RecommendationHistory.builder()
+                .userId(userId)
+                .priorityCode("1111111")
+                .availableMinutes(600)
+                .selectedActivityIds(activityIds)
+                .totalValue(totalValue)
+                .recommendedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class InMemoryHistoryRepository implements RecommendationHistoryRepository {
+
+        private final List<RecommendationHistory> saved = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void saveAll(List<RecommendationHistory> histories) {
+            saved.addAll(histories);
+        }
+
+        @Override
+        public List<RecommendationHistory> findByUserIdSince(Long userId, LocalDateTime since) {
+            return saved.stream()
+                    .filter(history -> history.getUserId().equals(userId))
+                    .filter(history -> !history.getRecommendedAt().isBefore(since))
+                    .toList();
+        }
+    }
+}
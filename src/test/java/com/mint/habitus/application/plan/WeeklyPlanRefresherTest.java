@@ -0,0 +1,148 @@
+package com.mint.habitus.application.plan;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityEffects;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import com.mint.habitus.domain.plan.domain.WeeklyPlanRepository;
+import com.mint.habitus.domain.priority.domain.Priority;
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import com.mint.habitus.domain.priority.domain.PriorityProfileRepository;
+import com.mint.habitus.domain.recommendation.domain.KnapsackTable;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.TimeConstraint;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@DisplayName("주간 계획 일괄 갱신 테스트")
+class WeeklyPlanRefresherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:weekly-plan-refresh;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve("catalog.bin"),
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("우선순위 코드마다 DP 상태를 한 번만 만들고, 프로필마다 자기 계획을 저장")
+    void refresh_preparesOncePerPriorityAndStoresPlanPerProfile() {
+        // given
+        ActivityRepository activityRepository = context.getBean(ActivityRepository.class);
+        activityRepository.save(createActivity(null, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)));
+        activityRepository.save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+        activityRepository.save(createActivity(null, "명상 20분", 20, Map.of(CapitalType.MENTAL, 3)));
+        Activity owned = activityRepository.save(ownedActivity(3L, "개인 트레이닝 30분", 30, 50));
+
+        PriorityProfileRepository profileRepository = context.getBean(PriorityProfileRepository.class);
+        profileRepository.save(profile(1L, "3111111", 600));
+        profileRepository.save(profile(2L, "3111111", 600));
+        profileRepository.save(profile(3L, "3111111", 300));
+        profileRepository.save(profile(4L, "1111111", 600));
+
+        CountingFinder finder = new CountingFinder();
+        WeeklyPlanRepository planRepository = context.getBean(WeeklyPlanRepository.class);
+        WeeklyPlanRefresher refresher = new WeeklyPlanRefresher(
+                profileRepository, planRepository, activityRepository, finder, properties());
+
+        // when
+        int written = refresher.refresh();
+
+        // then
+        WeeklyPlan first = planRepository.findByUserId(1L).orElseThrow();
+        WeeklyPlan second = planRepository.findByUserId(2L).orElseThrow();
+        WeeklyPlan withOwned = planRepository.findByUserId(3L).orElseThrow();
+        WeeklyPlan other = planRepository.findByUserId(4L).orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(written).isEqualTo(4);
+            softly.assertThat(finder.prepareCounts).containsOnly(Map.entry("3111111", 1), Map.entry("1111111", 1));
+
+            softly.assertThat(first.getUserId()).isEqualTo(1L);
+            softly.assertThat(second.getUserId()).isEqualTo(2L);
+            softly.assertThat(second.getSelectedActivityIds()).isEqualTo(first.getSelectedActivityIds());
+
+            softly.assertThat(withOwned.getAvailableMinutes()).isEqualTo(300);
+            softly.assertThat(withOwned.getSelectedActivityIds()).contains(owned.getId());
+            softly.assertThat(first.getSelectedActivityIds()).doesNotContain(owned.getId());
+
+            softly.assertThat(other.getPriorityCode()).isEqualTo("1111111");
+            softly.assertThat(other.getSelectedActivityIds()).isNotEmpty();
+        });
+    }
+
+    private WeeklyPlanRefreshProperties properties() {
+        WeeklyPlanRefreshProperties properties = new WeeklyPlanRefreshProperties();
+        properties.setParallelism(2);
+        // 사용자 ID 페이지 순회도 확인
+        properties.setBatchSize(1);
+        return properties;
+    }
+
+    private PriorityProfile profile(Long userId, String priorityCode, int availableMinutes) {
+        return PriorityProfile.builder()
+                .userId(userId)
+                .priorityCode(priorityCode)
+                .availableMinutes(availableMinutes)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Activity ownedActivity(Long ownerId, String name, int duration, int physicalEffect) {
+        Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+        for (CapitalType type : CapitalType.values()) {
+            effects.put(type, 0);
+        }
+        effects.put(CapitalType.PHYSICAL, physicalEffect);
+        return Activity.ofUser(null, ownerId, name, "테스트 활동", duration, 0, ActivityEffects.of(effects));
+    }
+
+    /**
+     * 우선순위 코드별 DP 상태 생성 횟수 기록
+     */
+    private static class CountingFinder extends OptimalActivityFinder {
+
+        private final Map<String, Integer> prepareCounts = new ConcurrentHashMap<>();
+
+        @Override
+        public KnapsackTable prepare(List<Activity> activities, Priority priority, TimeConstraint capacity) {
+            prepareCounts.merge(priority.getCode(), 1, Integer::sum);
+            return super.prepare(activities, priority, capacity);
+        }
+    }
+}
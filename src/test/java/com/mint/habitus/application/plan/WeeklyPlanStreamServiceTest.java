@@ -0,0 +1,358 @@
+package com.mint.habitus.application.plan;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.application.activity.UserActivityService;
+import com.mint.habitus.application.activity.dto.UserActivityRequest;
+import com.mint.habitus.application.plan.dto.PriorityProfileRequest;
+import com.mint.habitus.application.plan.dto.WeeklyPlanResponse;
+import com.mint.habitus.application.recommendation.cache.CatalogDpStateCache;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.activity.domain.CatalogChangedEvent;
+import com.mint.habitus.domain.activity.domain.UserActivitiesChangedEvent;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import com.mint.habitus.domain.priority.domain.PriorityProfileChangedEvent;
+import com.mint.habitus.domain.priority.domain.PriorityProfileRepository;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("주간 계획 SSE 구독 테스트")
+class WeeklyPlanStreamServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurableApplicationContext context;
+    private ActivityRepository activityRepository;
+    private WeeklyPlanStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        context = new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:weekly-plan-stream;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve("catalog.bin"),
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+
+        activityRepository = context.getBean(ActivityRepository.class);
+        activityRepository.save(createActivity(null, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)));
+
+        PriorityProfileRepository profileRepository = context.getBean(PriorityProfileRepository.class);
+        profileRepository.save(profile(1L));
+        profileRepository.save(profile(2L));
+
+        // 컨텍스트의 빈과 별개로 만들어 변경 이벤트는 테스트에서 직접 전달
+        streamService = new RecordingStreamService(
+                profileRepository,
+                activityRepository,
+                context.getBean(OptimalActivityFinder.class),
+                context.getBean(CatalogDpStateCache.class),
+                properties()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (streamService != null) {
+            streamService.shutdown();
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 카탈로그 기준 계획을 한 번 전송")
+    void subscribe_sendsInitialPlan() throws InterruptedException {
+        // given
+        long version = activityRepository.findCatalog().getVersion();
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) streamService.subscribe(1L);
+        waitUntil(() -> emitter.eventIds().size() == 1);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(emitter.eventIds()).containsExactly(Long.toString(version));
+            softly.assertThat(emitter.plans()).hasSize(1);
+            softly.assertThat(emitter.plans().get(0).getUserId()).isEqualTo(1L);
+            softly.assertThat(emitter.plans().get(0).getSelectedActivityIds()).isNotEmpty();
+            softly.assertThat(streamService.subscriptionCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("카탈로그가 바뀌면 새 버전의 계획을 다시 전송")
+    void onCatalogChanged_sendsRefreshedPlan() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = (RecordingEmitter) streamService.subscribe(1L);
+        waitUntil(() -> emitter.eventIds().size() == 1);
+        long before = activityRepository.findCatalog().getVersion();
+
+        // when
+        activityRepository.save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+        long after = activityRepository.findCatalog().getVersion();
+        streamService.onCatalogChanged(new CatalogChangedEvent(before, after));
+        waitUntil(() -> emitter.eventIds().size() == 2);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(after).isGreaterThan(before);
+            softly.assertThat(emitter.eventIds()).containsExactly(Long.toString(before), Long.toString(after));
+            softly.assertThat(emitter.plans().get(1).getSelectedActivityIds()).hasSizeGreaterThan(
+                    emitter.plans().get(0).getSelectedActivityIds().size());
+        });
+    }
+
+    @Test
+    @DisplayName("이미 전송한 버전은 다시 보내지 않음")
+    void onCatalogChanged_sameVersion_isNotResent() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = (RecordingEmitter) streamService.subscribe(1L);
+        waitUntil(() -> emitter.eventIds().size() == 1);
+        long before = activityRepository.findCatalog().getVersion();
+
+        // when: 같은 버전 재전송 시도 후 실제 변경
+        streamService.onCatalogChanged(new CatalogChangedEvent(before, before));
+        streamService.onCatalogChanged(new CatalogChangedEvent(before, before));
+        activityRepository.save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+        long after = activityRepository.findCatalog().getVersion();
+        streamService.onCatalogChanged(new CatalogChangedEvent(before, after));
+        waitUntil(() -> emitter.eventIds().contains(Long.toString(after)));
+
+        // then
+        assertThat(emitter.eventIds()).containsExactly(Long.toString(before), Long.toString(after));
+    }
+
+    @Test
+    @DisplayName("시간 초과나 완료된 구독은 한 번만 해제되고 이후 전송 대상에서 빠짐")
+    void timeoutAndCompletion_removeSubscription() throws InterruptedException {
+        // given
+        RecordingEmitter timedOut = (RecordingEmitter) streamService.subscribe(1L);
+        RecordingEmitter active = (RecordingEmitter) streamService.subscribe(2L);
+        waitUntil(() -> timedOut.eventIds().size() == 1 && active.eventIds().size() == 1);
+        long before = activityRepository.findCatalog().getVersion();
+
+        // when
+        timedOut.fireTimeout();
+        timedOut.fireCompletion();
+        int afterTimeout = streamService.subscriptionCount();
+
+        activityRepository.save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+        streamService.onCatalogChanged(
+                new CatalogChangedEvent(before, activityRepository.findCatalog().getVersion()));
+        waitUntil(() -> active.eventIds().size() == 2);
+
+        active.fireCompletion();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(afterTimeout).isEqualTo(1);
+            softly.assertThat(timedOut.eventIds()).hasSize(1);
+            softly.assertThat(streamService.subscriptionCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("프로필을 바꾸면 구독을 새 묶음으로 옮기고 같은 카탈로그 버전이어도 새 계획을 전송")
+    void saveProfile_movesSubscriptionAndSendsNewPlan() throws InterruptedException {
+        // given
+        forwardEvents();
+        RecordingEmitter emitter = (RecordingEmitter) streamService.subscribe(1L);
+        waitUntil(() -> emitter.eventIds().size() == 1);
+        long version = activityRepository.findCatalog().getVersion();
+
+        // when
+        context.getBean(WeeklyPlanService.class).saveProfile(1L, new PriorityProfileRequest("3111111", 300));
+        waitUntil(() -> emitter.eventIds().size() == 2);
+
+        activityRepository.save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+        long after = activityRepository.findCatalog().getVersion();
+        streamService.onCatalogChanged(new CatalogChangedEvent(version, after));
+        waitUntil(() -> emitter.eventIds().size() == 3);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(emitter.eventIds())
+                    .containsExactly(Long.toString(version), Long.toString(version), Long.toString(after));
+            softly.assertThat(emitter.plans().get(1).getPriorityCode()).isEqualTo("3111111");
+            softly.assertThat(emitter.plans().get(1).getAvailableMinutes()).isEqualTo(300);
+            softly.assertThat(emitter.plans().get(2).getPriorityCode()).isEqualTo("3111111");
+            softly.assertThat(emitter.plans().get(2).getAvailableMinutes()).isEqualTo(300);
+            softly.assertThat(streamService.subscriptionCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("전용 활동이 추가/삭제되면 해당 사용자의 구독에만 새 계획을 전송")
+    void userActivityChange_sendsPlanOnlyToOwner() throws InterruptedException {
+        // given
+        forwardEvents();
+        RecordingEmitter owner = (RecordingEmitter) streamService.subscribe(1L);
+        RecordingEmitter other = (RecordingEmitter) streamService.subscribe(2L);
+        waitUntil(() -> owner.eventIds().size() == 1 && other.eventIds().size() == 1);
+        UserActivityService userActivityService = context.getBean(UserActivityService.class);
+
+        // when
+        Long activityId = userActivityService.addActivity(1L, UserActivityRequest.builder()
+                .name("개인 트레이닝 30분")
+                .durationMinutes(30)
+                .effects(Map.of(CapitalType.PHYSICAL.name(), 50))
+                .build()).getId();
+        waitUntil(() -> owner.eventIds().size() == 2);
+
+        userActivityService.removeActivity(1L, activityId);
+        waitUntil(() -> owner.eventIds().size() == 3);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(owner.plans().get(1).getSelectedActivityIds()).contains(activityId);
+            softly.assertThat(owner.plans().get(2).getSelectedActivityIds()).doesNotContain(activityId);
+            softly.assertThat(other.eventIds()).hasSize(1);
+        });
+    }
+
+    /**
+     * 서비스가 발행한 프로필/전용 활동 변경 이벤트를 커밋 후 테스트용 스트림 서비스로 전달
+     */
+    private void forwardEvents() {
+        context.addApplicationListener(TransactionalApplicationListener.forPayload(
+                PriorityProfileChangedEvent.class, streamService::onProfileChanged));
+        context.addApplicationListener(TransactionalApplicationListener.forPayload(
+                UserActivitiesChangedEvent.class, streamService::onUserActivitiesChanged));
+    }
+
+    private WeeklyPlanStreamProperties properties() {
+        WeeklyPlanStreamProperties properties = new WeeklyPlanStreamProperties();
+        properties.setParallelism(1);
+        return properties;
+    }
+
+    private PriorityProfile profile(Long userId) {
+        return PriorityProfile.builder()
+                .userId(userId)
+                .priorityCode("1111111")
+                .availableMinutes(600)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static class RecordingStreamService extends WeeklyPlanStreamService {
+
+        RecordingStreamService(
+                PriorityProfileRepository profileRepository,
+                ActivityRepository activityRepository,
+                OptimalActivityFinder optimalActivityFinder,
+                CatalogDpStateCache dpStateCache,
+                WeeklyPlanStreamProperties properties
+        ) {
+            super(profileRepository, activityRepository, optimalActivityFinder, dpStateCache, properties);
+        }
+
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            return new RecordingEmitter(timeoutMillis);
+        }
+    }
+
+    /**
+     * 서블릿 응답 없이 전송한 이벤트를 기록하고, 완료/시간 초과 콜백을 직접 호출하는 SseEmitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> events = new CopyOnWriteArrayList<>();
+        private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+        private final List<Runnable> timeoutCallbacks = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build());
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallbacks.add(callback);
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallbacks.add(callback);
+        }
+
+        void fireCompletion() {
+            completionCallbacks.forEach(Runnable::run);
+        }
+
+        void fireTimeout() {
+            timeoutCallbacks.forEach(Runnable::run);
+        }
+
+        /**
+         * 계획 이벤트의 id (카탈로그 버전) - heartbeat 제외
+         */
+        List<String> eventIds() {
+            List<String> ids = new ArrayList<>();
+            for (Set<ResponseBodyEmitter.DataWithMediaType> event : events) {
+                for (ResponseBodyEmitter.DataWithMediaType part : event) {
+                    if (part.getData() instanceof String text) {
+                        text.lines()
+                                .filter(line -> line.startsWith("id:"))
+                                .forEach(line -> ids.add(line.substring("id:".length())));
+                    }
+                }
+            }
+            return ids;
+        }
+
+        List<WeeklyPlanResponse> plans() {
+            List<WeeklyPlanResponse> plans = new ArrayList<>();
+            for (Set<ResponseBodyEmitter.DataWithMediaType> event : events) {
+                for (ResponseBodyEmitter.DataWithMediaType part : event) {
+                    if (part.getData() instanceof WeeklyPlanResponse plan) {
+                        plans.add(plan);
+                    }
+                }
+            }
+            return plans;
+        }
+    }
+}
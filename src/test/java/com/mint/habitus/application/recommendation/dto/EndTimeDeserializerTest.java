@@ -0,0 +1,64 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mint.habitus.application.recommendation.dto.RecommendationRequest.AvailabilityWindowRequest;
+import com.mint.habitus.domain.recommendation.domain.AvailabilityWindow;
+import java.time.LocalTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EndTimeDeserializer 테스트")
+class EndTimeDeserializerTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    @DisplayName("24:00은 자정으로 읽어 그날의 끝까지인 시간대가 됨")
+    void deserialize_endOfDay() throws Exception {
+        // given
+        String json = """
+                {"dayOfWeek": "SUNDAY", "startTime": "22:00", "endTime": "24:00"}
+                """;
+
+        // when
+        AvailabilityWindowRequest request = mapper.readValue(json, AvailabilityWindowRequest.class);
+        AvailabilityWindow window = AvailabilityWindow.of(
+                request.getDayOfWeek(), request.getStartTime(), request.getEndTime());
+
+        // then
+        assertThat(request.getEndTime()).isEqualTo(LocalTime.MIDNIGHT);
+        assertThat(window.getLengthMinutes()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("일반 시각은 그대로 읽음")
+    void deserialize_regularTime() throws Exception {
+        // given
+        String json = """
+                {"dayOfWeek": "MONDAY", "startTime": "19:00", "endTime": "20:30"}
+                """;
+
+        // when
+        AvailabilityWindowRequest request = mapper.readValue(json, AvailabilityWindowRequest.class);
+
+        // then
+        assertThat(request.getEndTime()).isEqualTo(LocalTime.of(20, 30));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 종료 시각은 거부")
+    void deserialize_invalid() {
+        // given
+        String json = """
+                {"dayOfWeek": "MONDAY", "startTime": "19:00", "endTime": "25:00"}
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> mapper.readValue(json, AvailabilityWindowRequest.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mint.habitus.application.recommendation.dto;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ResponseFields 테스트")
+class ResponseFieldsTest {
+
+    @Test
+    @DisplayName("미지정 시 전체 필드 포함")
+    void of_empty_includesAll() {
+        // when
+        ResponseFields fields = ResponseFields.of(null);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(fields.isAll()).isTrue();
+            softly.assertThat(fields.includes(ResponseFields.TOTAL_CAPITAL_GAIN)).isTrue();
+            softly.assertThat(fields.includesActivity(ResponseFields.ACTIVITY_WEIGHTED_EFFECTS)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("활동 필드만 지정하면 활동 목록은 포함하고 나머지 활동 필드는 제외")
+    void of_activityField_includesOnlyThatField() {
+        // when
+        ResponseFields fields = ResponseFields.of(List.of("totalValue", " selectedActivities.id"));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(fields.includes(ResponseFields.TOTAL_VALUE)).isTrue();
+            softly.assertThat(fields.includes(ResponseFields.SELECTED_ACTIVITIES)).isTrue();
+            softly.assertThat(fields.includes(ResponseFields.TOTAL_CAPITAL_GAIN)).isFalse();
+            softly.assertThat(fields.includesActivity(ResponseFields.ACTIVITY_ID)).isTrue();
+            softly.assertThat(fields.includesActivity(ResponseFields.ACTIVITY_ORIGINAL_EFFECTS)).isFalse();
+            softly.assertThat(fields.getKey())
+                    .isEqualTo(ResponseFields.of(List.of("selectedActivities.id", "totalValue")).getKey());
+        });
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 필드는 예외")
+    void of_unknownField_throws() {
+        assertThatThrownBy(() -> ResponseFields.of(List.of("selectedActivities.color")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResponseFields.of(List.of("unknown")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
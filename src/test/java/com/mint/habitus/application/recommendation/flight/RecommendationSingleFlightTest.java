@@ -0,0 +1,113 @@
+package com.mint.habitus.application.recommendation.flight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mint.habitus.application.recommendation.flight.RecommendationSingleFlight.FlightKey;
+import com.mint.habitus.domain.recommendation.domain.RecommendationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecommendationSingleFlight 테스트")
+class RecommendationSingleFlightTest {
+
+    private static final FlightKey KEY = new FlightKey(1L, "1111111", 600);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        SingleFlightProperties properties = new SingleFlightProperties();
+        properties.setTimeout(Duration.ofSeconds(2));
+
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new RecommendationSingleFlight(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시 요청은 하나의 계산 결과를 공유")
+    void execute_coalescesConcurrentCalls() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        RecommendationResult expected = RecommendationResult.empty(600);
+
+        CompletableFuture<RecommendationResult> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, () -> {
+                    computations.incrementAndGet();
+                    await(release);
+                    return expected;
+                }));
+        waitUntil(() -> singleFlight.inFlightCount() == 1);
+
+        // when
+        CompletableFuture<RecommendationResult> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, () -> {
+                    computations.incrementAndGet();
+                    return RecommendationResult.empty(600);
+                }));
+        waitUntil(() -> followerCount() == 1);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(2, TimeUnit.SECONDS)).isSameAs(expected);
+        assertThat(follower.get(2, TimeUnit.SECONDS)).isSameAs(expected);
+        assertThat(computations).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산 실패는 대기 중인 요청에도 전파")
+    void execute_propagatesFailure() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<RecommendationResult> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, () -> {
+                    await(release);
+                    throw new IllegalStateException("계산 실패");
+                }));
+        waitUntil(() -> singleFlight.inFlightCount() == 1);
+
+        // when
+        CompletableFuture<RecommendationResult> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, () -> RecommendationResult.empty(600)));
+        waitUntil(() -> followerCount() == 1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> follower.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> leader.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private double followerCount() {
+        return meterRegistry.counter("habitus.recommendation.single-flight", "role", "follower").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.mint.habitus.application.recommendation.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mint.habitus.application.recommendation.dto.RecommendationRequest;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecommendationJobService 테스트")
+class RecommendationJobServiceTest {
+
+    private static final RecommendationRequest REQUEST = RecommendationRequest.builder()
+            .availableMinutes(600)
+            .build();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger started = new AtomicInteger();
+    private RecommendationJobService jobService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 작업이 용량에 도달하면 제출 거부")
+    void submit_rejectsWhenQueueIsFull() throws InterruptedException {
+        // given
+        jobService = blockingService(2);
+        jobService.submit(REQUEST, JobLane.NORMAL);
+        waitUntil(() -> started.get() == 1);
+        jobService.submit(REQUEST, JobLane.NORMAL);
+        jobService.submit(REQUEST, JobLane.NORMAL);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.submit(REQUEST, JobLane.HIGH))
+                .isInstanceOf(JobRejectedException.class);
+        assertThat(jobService.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 제출에서도 용량만큼만 접수")
+    void submit_concurrentSubmissionsNeverExceedCapacity() throws Exception {
+        // given
+        jobService = blockingService(10);
+        jobService.submit(REQUEST, JobLane.NORMAL);
+        waitUntil(() -> started.get() == 1);
+
+        ExecutorService submitters = Executors.newFixedThreadPool(8);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            results.add(submitters.submit(() -> {
+                go.await();
+                try {
+                    jobService.submit(REQUEST, JobLane.NORMAL);
+                    return true;
+                } catch (JobRejectedException e) {
+                    return false;
+                }
+            }));
+        }
+        go.countDown();
+
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+        submitters.shutdown();
+
+        // then
+        assertThat(accepted).isEqualTo(10);
+        assertThat(jobService.pendingCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 결과를 반환하고 대기 슬롯을 반납")
+    void submit_completesAndReleasesSlot() throws Exception {
+        // given
+        jobService = blockingService(1);
+        RecommendationJob running = jobService.submit(REQUEST, JobLane.NORMAL);
+        waitUntil(() -> started.get() == 1);
+        RecommendationJob queued = jobService.submit(REQUEST, JobLane.NORMAL);
+
+        // when
+        release.countDown();
+        RecommendationJob finished = jobService.await(queued.getId(), Duration.ofSeconds(5))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(running.getStatus()).isEqualTo(JobStatus.COMPLETED);
+            softly.assertThat(finished.getStatus()).isEqualTo(JobStatus.COMPLETED);
+            softly.assertThat(finished.getResult()).isNotNull();
+            softly.assertThat(jobService.pendingCount()).isZero();
+        });
+        assertThat(jobService.submit(REQUEST, JobLane.NORMAL)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("계산 실패는 FAILED 상태로 기록")
+    void submit_recordsFailure() throws Exception {
+        // given
+        jobService = new RecommendationJobService(request -> {
+            throw new IllegalArgumentException("잘못된 요청");
+        }, properties(1, 10), Clock.systemUTC());
+
+        // when
+        RecommendationJob job = jobService.submit(REQUEST, JobLane.NORMAL);
+        RecommendationJob finished = jobService.await(job.getId(), Duration.ofSeconds(5))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(finished.getStatus()).isEqualTo(JobStatus.FAILED);
+            softly.assertThat(finished.getErrorMessage()).isEqualTo("잘못된 요청");
+            softly.assertThat(finished.getResult()).isNull();
+        });
+    }
+
+    /**
+     * 워커 1개가 release 전까지 첫 작업을 붙잡고 있는 서비스
+     */
+    private RecommendationJobService blockingService(int queueCapacity) {
+        return new RecommendationJobService(request -> {
+            started.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return RecommendationResponse.builder().build();
+        }, properties(1, queueCapacity), Clock.systemUTC());
+    }
+
+    private RecommendationJobProperties properties(int workers, int queueCapacity) {
+        RecommendationJobProperties properties = new RecommendationJobProperties();
+        properties.setWorkers(workers);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
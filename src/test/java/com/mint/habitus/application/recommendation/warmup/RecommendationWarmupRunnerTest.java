@@ -0,0 +1,72 @@
+package com.mint.habitus.application.recommendation.warmup;
+
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.infrastructure.activity.snapshot.CatalogSnapshotStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@DisplayName("추천 워밍업 테스트")
+class RecommendationWarmupRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurableApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 시 워밍업이 실행되어 완료되고 카탈로그 스냅샷을 채움")
+    void start_runsWarmupAndFillsSnapshot() throws InterruptedException {
+        // given
+        Path snapshotPath = tempDir.resolve("catalog.bin");
+
+        // when
+        context = new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:warmup;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.catalog.snapshot.path=" + snapshotPath,
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=true",
+                        "habitus.warmup.catalog-size=20",
+                        "habitus.warmup.min-iterations=5",
+                        "habitus.warmup.max-iterations=20",
+                        "habitus.warmup.timeout=10s"
+                )
+                .run();
+        RecommendationWarmupRunner runner = context.getBean(RecommendationWarmupRunner.class);
+        WarmupStatus status = awaitComplete(runner);
+
+        // then
+        CatalogSnapshotStore snapshotStore = context.getBean(CatalogSnapshotStore.class);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(status.isComplete()).isTrue();
+            softly.assertThat(status.getIterations()).isGreaterThanOrEqualTo(5);
+            softly.assertThat(snapshotStore.current()).isPresent();
+            softly.assertThat(Files.exists(snapshotPath)).isTrue();
+        });
+    }
+
+    private WarmupStatus awaitComplete(RecommendationWarmupRunner runner) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!runner.getStatus().isComplete() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        return runner.getStatus();
+    }
+}
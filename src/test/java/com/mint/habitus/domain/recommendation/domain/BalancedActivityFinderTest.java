@@ -0,0 +1,113 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+import static com.mint.habitus.fixture.TestFixture.createPriorityWithHighKnowledge;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.priority.domain.Priority;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BalancedActivityFinder 도메인 테스트")
+class BalancedActivityFinderTest {
+
+    private final OptimalActivityFinder optimalActivityFinder = new OptimalActivityFinder();
+    private final BalancedActivityFinder finder = new BalancedActivityFinder(optimalActivityFinder);
+
+    @Test
+    @DisplayName("체감 수익: 한 자본에 몰린 조합보다 고르게 성장하는 조합 선택")
+    void find_prefersBalancedGrowth() {
+        // given
+        List<Activity> activities = List.of(
+                createActivity(1L, "운동 A 30분", 30, Map.of(CapitalType.PHYSICAL, 10)),
+                createActivity(2L, "운동 B 30분", 30, Map.of(CapitalType.PHYSICAL, 10)),
+                createActivity(3L, "독서 30분", 30, Map.of(CapitalType.KNOWLEDGE, 7))
+        );
+        Priority priority = createDefaultPriority();
+        TimeConstraint timeConstraint = TimeConstraint.of(60);
+
+        // when
+        RecommendationResult linear = optimalActivityFinder.find(activities, priority, timeConstraint);
+        BalancedRecommendation balanced = finder.find(activities, priority, timeConstraint);
+
+        // then: 선형은 운동 2개(20점), 균형은 운동 + 독서 (효용 40 + 28 = 68 > 40 + 20 = 60)
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(linear.getSelectedActivities())
+                    .extracting(selected -> selected.getActivity().getId())
+                    .containsExactlyInAnyOrder(1L, 2L);
+            softly.assertThat(balanced.getResult().getSelectedActivities())
+                    .extracting(selected -> selected.getActivity().getId())
+                    .hasSize(2)
+                    .contains(3L);
+            softly.assertThat(balanced.getUtility()).isEqualTo(68.0);
+            softly.assertThat(balanced.getOptimalityGap()).isLessThanOrEqualTo(0.68);
+        });
+    }
+
+    @Test
+    @DisplayName("상한 보장: 전수 탐색 최적 효용이 결과 효용과 상한 사이에 위치")
+    void find_upperBoundIsCertified() {
+        // given
+        Random random = new Random(7);
+        DiminishingReturns returns = DiminishingReturns.defaultReturns();
+        Priority priority = createPriorityWithHighKnowledge();
+
+        for (int trial = 0; trial < 20; trial++) {
+            List<Activity> activities = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                Map<CapitalType, Integer> effects = new EnumMap<>(CapitalType.class);
+                effects.put(CapitalType.values()[random.nextInt(3)], 1 + random.nextInt(9));
+                effects.put(CapitalType.values()[random.nextInt(7)], random.nextInt(4));
+                activities.add(createActivity((long) i, "활동 " + i, 10 + 10 * random.nextInt(6), effects));
+            }
+            TimeConstraint timeConstraint = TimeConstraint.of(60 + random.nextInt(120));
+
+            // when
+            BalancedRecommendation balanced = finder.find(activities, priority, timeConstraint, returns);
+            double optimum = bruteForce(activities, priority, timeConstraint.getTotalMinutes(), returns);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(balanced.getResult().getTotalMinutes())
+                        .isLessThanOrEqualTo(timeConstraint.getTotalMinutes());
+                softly.assertThat(balanced.getUtility()).isLessThanOrEqualTo(optimum + 1e-9);
+                softly.assertThat(balanced.getUpperBound()).isGreaterThanOrEqualTo(optimum - 1e-9);
+            });
+        }
+    }
+
+    private double bruteForce(List<Activity> activities, Priority priority, int capacity, DiminishingReturns returns) {
+        double best = 0;
+
+        for (int mask = 0; mask < (1 << activities.size()); mask++) {
+            int minutes = 0;
+            Map<CapitalType, Integer> gains = new EnumMap<>(CapitalType.class);
+
+            for (int i = 0; i < activities.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    Activity activity = activities.get(i);
+                    minutes += activity.getDurationMinutes();
+                    activity.getActiveEffects().forEach((type, effect) -> gains.merge(type, effect, Integer::sum));
+                }
+            }
+
+            if (minutes <= capacity) {
+                double utility = 0;
+                for (CapitalType type : CapitalType.values()) {
+                    utility += priority.getWeight(type) * returns.utility(gains.getOrDefault(type, 0));
+                }
+                best = Math.max(best, utility);
+            }
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,128 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CalendarActivityPlanner 도메인 테스트")
+class CalendarActivityPlannerTest {
+
+    private final CalendarActivityPlanner planner = new CalendarActivityPlanner(new OptimalActivityFinder());
+
+    @Test
+    @DisplayName("활동은 하나의 시간대 안에만 배치")
+    void plan_activityMustFitInsideOneWindow() {
+        // given: 총 120분이지만 시간대는 60분 두 개
+        List<AvailabilityWindow> windows = List.of(
+                AvailabilityWindow.of(DayOfWeek.MONDAY, LocalTime.of(19, 0), LocalTime.of(20, 0)),
+                AvailabilityWindow.of(DayOfWeek.WEDNESDAY, LocalTime.of(19, 0), LocalTime.of(20, 0))
+        );
+        List<Activity> activities = List.of(
+                createActivity(1L, "영화 120분", 120, Map.of(CapitalType.CULTURAL, 20)),
+                createActivity(2L, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)),
+                createActivity(3L, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)),
+                createActivity(4L, "명상 30분", 30, Map.of(CapitalType.MENTAL, 3))
+        );
+
+        // when
+        CalendarPlan plan = planner.plan(activities, createDefaultPriority(), windows);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(plan.getSchedule())
+                    .extracting(scheduled -> scheduled.getSelected().getActivity().getName())
+                    .doesNotContain("영화 120분")
+                    .containsExactlyInAnyOrder("독서 60분", "운동 30분", "명상 30분");
+            softly.assertThat(plan.getResult().getTotalValue()).isEqualTo(12);
+            softly.assertThat(plan.getResult().getRemainingMinutes()).isZero();
+
+            for (ScheduledActivity scheduled : plan.getSchedule()) {
+                softly.assertThat(windows)
+                        .anyMatch(window -> window.getStartMinute() <= scheduled.getStartMinute()
+                                && scheduled.getEndMinute() <= window.getEndMinute());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("겹치는 시간대는 병합하여 하나의 시간대로 취급")
+    void plan_mergesOverlappingWindows() {
+        // given
+        List<AvailabilityWindow> windows = List.of(
+                AvailabilityWindow.of(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(11, 30)),
+                AvailabilityWindow.of(DayOfWeek.SATURDAY, LocalTime.of(11, 0), LocalTime.of(12, 0))
+        );
+        List<Activity> activities = List.of(
+                createActivity(1L, "등산 120분", 120, Map.of(CapitalType.PHYSICAL, 10))
+        );
+
+        // when
+        CalendarPlan plan = planner.plan(activities, createDefaultPriority(), windows);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(plan.getSchedule()).hasSize(1);
+            softly.assertThat(plan.getSchedule().get(0).getStartTime()).isEqualTo(LocalTime.of(10, 0));
+            softly.assertThat(plan.getSchedule().get(0).getDayOfWeek()).isEqualTo(DayOfWeek.SATURDAY);
+        });
+    }
+
+    @Test
+    @DisplayName("종료 시각 00:00은 그날의 24:00으로 처리")
+    void plan_midnightEndIsEndOfDay() {
+        // given: 일요일 22:00~24:00 (한 주의 마지막 2시간)
+        AvailabilityWindow window = AvailabilityWindow.of(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.MIDNIGHT);
+        List<Activity> activities = List.of(
+                createActivity(1L, "영화 120분", 120, Map.of(CapitalType.CULTURAL, 20))
+        );
+
+        // when
+        CalendarPlan plan = planner.plan(activities, createDefaultPriority(), List.of(window));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(window.getLengthMinutes()).isEqualTo(120);
+            softly.assertThat(window.getEndMinute()).isEqualTo(7 * 24 * 60);
+            softly.assertThat(plan.getSchedule()).hasSize(1);
+            ScheduledActivity scheduled = plan.getSchedule().get(0);
+            softly.assertThat(scheduled.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+            softly.assertThat(scheduled.getStartTime()).isEqualTo(LocalTime.of(22, 0));
+            softly.assertThat(scheduled.getEndTime()).isEqualTo(LocalTime.MIDNIGHT);
+        });
+    }
+
+    @Test
+    @DisplayName("남은 틈 채우기에서도 같은 그룹 활동은 하나만 배치")
+    void plan_gapFillRespectsGroup() {
+        // given: 60분 시간대에 헬스 60분이 배치된 뒤 40분 틈이 남음
+        List<AvailabilityWindow> windows = List.of(
+                AvailabilityWindow.of(DayOfWeek.MONDAY, LocalTime.of(19, 0), LocalTime.of(20, 0)),
+                AvailabilityWindow.of(DayOfWeek.WEDNESDAY, LocalTime.of(19, 0), LocalTime.of(19, 40))
+        );
+        List<Activity> activities = List.of(
+                createActivity(1L, "헬스 60분", 60, Map.of(CapitalType.PHYSICAL, 10)).inGroup("GYM"),
+                createActivity(2L, "헬스 40분", 40, Map.of(CapitalType.PHYSICAL, 6)).inGroup("GYM")
+        );
+
+        // when
+        CalendarPlan plan = planner.plan(activities, createDefaultPriority(), windows);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(plan.getSchedule())
+                    .extracting(scheduled -> scheduled.getSelected().getActivity().getName())
+                    .containsExactly("헬스 60분");
+            softly.assertThat(plan.getResult().getTotalValue()).isEqualTo(10);
+            softly.assertThat(plan.getResult().getRemainingMinutes()).isEqualTo(40);
+        });
+    }
+}
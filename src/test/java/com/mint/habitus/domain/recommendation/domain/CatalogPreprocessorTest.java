@@ -0,0 +1,74 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CatalogPreprocessor 도메인 테스트")
+class CatalogPreprocessorTest {
+
+    private final CatalogPreprocessor preprocessor = new CatalogPreprocessor();
+
+    @Test
+    @DisplayName("시간 초과, 가치 0 활동 제거 및 중복 병합")
+    void preprocess_shrinksCatalog() {
+        // given
+        List<Activity> activities = List.of(
+                createActivity(1L, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)),
+                createActivity(2L, "운동 30분 (복제)", 30, Map.of(CapitalType.PHYSICAL, 4)),
+                createActivity(3L, "명상 20분", 20, Map.of(CapitalType.MENTAL, 4)),
+                createActivity(4L, "여행 200분", 200, Map.of(CapitalType.CULTURAL, 9)),
+                createActivity(5L, "휴식 10분", 10, Map.of())
+        );
+
+        // when
+        PreprocessedCatalog catalog = preprocessor.preprocess(activities, createDefaultPriority(), 100);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(catalog.getOriginalCount()).isEqualTo(5);
+            softly.assertThat(catalog.getOverCapacityCount()).isEqualTo(1);
+            softly.assertThat(catalog.getZeroValueCount()).isEqualTo(1);
+            softly.assertThat(catalog.getDuplicateCount()).isEqualTo(1);
+            softly.assertThat(catalog.getReducedCount()).isEqualTo(2);
+
+            // 시간 오름차순 정렬
+            softly.assertThat(catalog.getActivities())
+                    .extracting(CollapsedActivity::getDurationMinutes)
+                    .containsExactly(20, 30);
+            softly.assertThat(catalog.getActivities().get(1).getMultiplicity()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("중복 묶음: 가용 시간이 허용하는 만큼 복수 선택")
+    void find_selectsMultipleCopiesOfDuplicate() {
+        // given
+        List<Activity> activities = List.of(
+                createActivity(1L, "독서 30분", 30, Map.of(CapitalType.KNOWLEDGE, 5)),
+                createActivity(2L, "독서 30분", 30, Map.of(CapitalType.KNOWLEDGE, 5)),
+                createActivity(3L, "독서 30분", 30, Map.of(CapitalType.KNOWLEDGE, 5)),
+                createActivity(4L, "산책 40분", 40, Map.of(CapitalType.PHYSICAL, 4))
+        );
+
+        // when
+        RecommendationResult result = new OptimalActivityFinder()
+                .find(activities, createDefaultPriority(), TimeConstraint.of(100));
+
+        // then: 독서 3개(90분, 15점) > 독서 2개 + 산책(100분, 14점)
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.getTotalValue()).isEqualTo(15);
+            softly.assertThat(result.getTotalMinutes()).isEqualTo(90);
+            softly.assertThat(result.getSelectedActivities())
+                    .extracting(selected -> selected.getActivity().getId())
+                    .containsExactlyInAnyOrder(1L, 2L, 3L);
+        });
+    }
+}
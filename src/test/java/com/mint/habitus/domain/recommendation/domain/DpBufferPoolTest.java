@@ -0,0 +1,112 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+import static com.mint.habitus.fixture.TestFixture.createTestActivities;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DpBufferPool 도메인 테스트")
+class DpBufferPoolTest {
+
+    @Test
+    @DisplayName("반납한 버퍼를 0으로 초기화하여 재사용")
+    void acquire_reusesReleasedBuffers() {
+        // given
+        DpBufferPool pool = new DpBufferPool(2);
+        DpBuffers first = pool.acquire(101, 10);
+        first.best[5] = 42;
+        first.bits[3] = -1L;
+        pool.release(first);
+
+        // when
+        DpBuffers second = pool.acquire(101, 10);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(second).isSameAs(first);
+            softly.assertThat(second.best[5]).isZero();
+            softly.assertThat(second.bits[3]).isZero();
+            softly.assertThat(pool.getHitCount()).isEqualTo(1);
+            softly.assertThat(pool.getMissCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("크기가 맞지 않는 버퍼는 그대로 두고 다음 슬롯의 버퍼를 사용")
+    void acquire_skipsUndersizedBuffers() {
+        // given
+        DpBufferPool pool = new DpBufferPool(2);
+        DpBuffers small = pool.acquire(101, 10);
+        DpBuffers large = pool.acquire(101, 1000);
+        pool.release(small);
+        pool.release(large);
+
+        // when
+        DpBuffers acquired = pool.acquire(101, 1000);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(acquired).isSameAs(large);
+            softly.assertThat(pool.getHitCount()).isEqualTo(1);
+            softly.assertThat(pool.getRetainedBytes()).isEqualTo(small.sizeInBytes());
+        });
+    }
+
+    @Test
+    @DisplayName("빈 슬롯이 없으면 반납한 큰 버퍼가 작은 버퍼를 대신함")
+    void release_replacesSmallerBufferWhenFull() {
+        // given
+        DpBufferPool pool = new DpBufferPool(1);
+        DpBuffers small = pool.acquire(101, 10);
+        DpBuffers large = pool.acquire(101, 1000);
+        pool.release(small);
+
+        // when
+        pool.release(large);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(pool.getRetainedBytes()).isEqualTo(large.sizeInBytes());
+            softly.assertThat(pool.acquire(101, 1000)).isSameAs(large);
+        });
+    }
+
+    @Test
+    @DisplayName("최근 최대 요구량보다 지나치게 큰 버퍼는 반납 시 버림")
+    void release_trimsOversizedBuffers() {
+        // given
+        DpBufferPool pool = new DpBufferPool(2);
+        DpBuffers small = pool.acquire(101, 100);
+
+        // when: 구간 최대 요구량(100워드)의 2배를 넘는 버퍼 반납
+        pool.release(new DpBuffers(101, 4096));
+        pool.release(small);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(pool.getTrimCount()).isEqualTo(1);
+            softly.assertThat(pool.getRetainedBytes()).isEqualTo(small.sizeInBytes());
+        });
+    }
+
+    @Test
+    @DisplayName("풀을 거친 반복 계산도 같은 결과")
+    void find_withPooledBuffers_isStable() {
+        // given
+        OptimalActivityFinder finder = new OptimalActivityFinder();
+        RecommendationResult expected = finder.find(createTestActivities(), createDefaultPriority(), TimeConstraint.of(240));
+
+        // when
+        RecommendationResult small = finder.find(createTestActivities(), createDefaultPriority(), TimeConstraint.of(50));
+        RecommendationResult again = finder.find(createTestActivities(), createDefaultPriority(), TimeConstraint.of(240));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(again.getTotalValue()).isEqualTo(expected.getTotalValue());
+            softly.assertThat(small.getTotalMinutes()).isLessThanOrEqualTo(50);
+            softly.assertThat(finder.getBufferPool().getHitCount()).isPositive();
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.priority.domain.Priority;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HorizonPlanner 도메인 테스트")
+class HorizonPlannerTest {
+
+    private final OptimalActivityFinder optimalActivityFinder = new OptimalActivityFinder();
+    private final HorizonPlanner planner = new HorizonPlanner(optimalActivityFinder);
+
+    @Test
+    @DisplayName("반복 제한: 활동은 최대 N주까지만 선택되고 주마다 가용 시간 이내")
+    void plan_respectsRepeatLimit() {
+        // given
+        Random random = new Random(11);
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            activities.add(createActivity((long) i, "활동 " + i, random.nextInt(1, 9) * 15,
+                    Map.of(CapitalType.values()[random.nextInt(CapitalType.values().length)], random.nextInt(1, 20))));
+        }
+        List<TimeConstraint> weeks = List.of(
+                TimeConstraint.of(600), TimeConstraint.of(300), TimeConstraint.of(900), TimeConstraint.of(450));
+
+        // when
+        HorizonPlan plan = planner.plan(activities, createDefaultPriority(), weeks, 2);
+
+        // then
+        Map<Long, Integer> usage = new HashMap<>();
+        plan.getWeeks().forEach(week -> week.getSelectedActivities()
+                .forEach(selected -> usage.merge(selected.getActivity().getId(), 1, Integer::sum)));
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(plan.getWeeks()).hasSize(4);
+            softly.assertThat(usage.values()).allMatch(count -> count <= 2);
+            for (int week = 0; week < weeks.size(); week++) {
+                softly.assertThat(plan.getWeeks().get(week).getTotalMinutes())
+                        .isLessThanOrEqualTo(weeks.get(week).getTotalMinutes());
+            }
+            softly.assertThat(plan.getTotalValue()).isLessThanOrEqualTo(plan.getUpperBound());
+        });
+    }
+
+    @Test
+    @DisplayName("조정: 빈 시간을 다른 활동으로 채우기 쉬운 주에서 중복 활동을 제외")
+    void plan_dropsRepeatWhereTimeIsEasiestToRefill() {
+        // given - 1주차(60분)는 A 대신 B로 채울 수 있지만 2주차(30분)는 A 외에 넣을 활동이 없다
+        List<Activity> activities = List.of(
+                createActivity(1L, "A 30분", 30, Map.of(CapitalType.PHYSICAL, 10)),
+                createActivity(2L, "B 60분", 60, Map.of(CapitalType.PHYSICAL, 12)),
+                createActivity(3L, "C 30분", 30, Map.of(CapitalType.PHYSICAL, 3))
+        );
+        Priority priority = createDefaultPriority();
+        List<TimeConstraint> weeks = List.of(TimeConstraint.of(60), TimeConstraint.of(30));
+
+        // when
+        HorizonPlan plan = planner.plan(activities, priority, weeks, 1);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(plan.getWeeks().get(0).getSelectedActivities())
+                    .extracting(selected -> selected.getActivity().getId())
+                    .containsExactly(2L);
+            softly.assertThat(plan.getWeeks().get(1).getSelectedActivities())
+                    .extracting(selected -> selected.getActivity().getId())
+                    .containsExactly(1L);
+            softly.assertThat(plan.getTotalValue()).isLessThan(plan.getUpperBound());
+        });
+    }
+
+    @Test
+    @DisplayName("반복 제한이 주 수 이상이면 주마다 독립 최적과 동일")
+    void plan_withoutCouplingMatchesIndependentWeeks() {
+        // given
+        Random random = new Random(5);
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            activities.add(createActivity((long) i, "활동 " + i, random.nextInt(1, 7) * 20,
+                    Map.of(CapitalType.KNOWLEDGE, random.nextInt(1, 15))));
+        }
+        Priority priority = createDefaultPriority();
+        List<TimeConstraint> weeks = List.of(TimeConstraint.of(240), TimeConstraint.of(480), TimeConstraint.of(120));
+
+        // when
+        HorizonPlan plan = planner.plan(activities, priority, weeks, 3);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            for (int week = 0; week < weeks.size(); week++) {
+                softly.assertThat(plan.getWeeks().get(week).getTotalValue())
+                        .isEqualTo(optimalActivityFinder.find(activities, priority, weeks.get(week)).getTotalValue());
+            }
+            softly.assertThat(plan.getOptimalityGap()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("반복 횟수가 1 미만이면 예외")
+    void plan_invalidRepeatLimit() {
+        assertThatThrownBy(() -> planner.plan(List.of(), createDefaultPriority(), List.of(TimeConstraint.of(60)), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
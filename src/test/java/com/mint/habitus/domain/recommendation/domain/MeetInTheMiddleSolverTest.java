@@ -0,0 +1,116 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MeetInTheMiddleSolver 도메인 테스트")
+class MeetInTheMiddleSolverTest {
+
+    @Test
+    @DisplayName("정확성: 무작위 아이템과 그룹에서 DP와 같은 최대 가치, 용량 이내, 그룹당 최대 하나")
+    void solve_matchesDp() {
+        SplittableRandom random = new SplittableRandom(7L);
+
+        for (int round = 0; round < 30; round++) {
+            // given
+            List<KnapsackItem> items = new ArrayList<>();
+            int itemCount = random.nextInt(1, 15);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(item(round * 100L + i, random.nextInt(5, 300), random.nextInt(1, 50)));
+            }
+            List<KnapsackGroup> groups = new ArrayList<>();
+            int groupCount = random.nextInt(0, 3);
+            for (int g = 0; g < groupCount; g++) {
+                List<KnapsackItem> options = new ArrayList<>();
+                int optionCount = random.nextInt(2, 4);
+                for (int o = 0; o < optionCount; o++) {
+                    options.add(item(round * 100L + 50 + g * 5 + o, random.nextInt(5, 300), random.nextInt(1, 50)));
+                }
+                groups.add(new KnapsackGroup("G" + g, options));
+            }
+            int capacity = random.nextInt(1, 2_000);
+
+            // when
+            List<SelectedActivity> selected = MeetInTheMiddleSolver.solve(items, groups, capacity);
+            int expected = KnapsackTable.solve(items, groups, capacity).bestValue(capacity);
+
+            // then
+            Set<Long> selectedIds = new HashSet<>();
+            selected.forEach(cur -> selectedIds.add(cur.getActivity().getId()));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(selected.stream().mapToInt(SelectedActivity::getValue).sum()).isEqualTo(expected);
+                softly.assertThat(selected.stream().mapToInt(cur -> cur.getActivity().getDurationMinutes()).sum())
+                        .isLessThanOrEqualTo(capacity);
+                for (KnapsackGroup group : groups) {
+                    softly.assertThat(group.getOptions().stream()
+                                    .filter(option -> selectedIds.contains(option.getMembers().get(0).getActivity().getId()))
+                                    .count())
+                            .isLessThanOrEqualTo(1);
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("선택: 아이템이 적고 용량이 크면 Meet-in-the-middle, 용량이 작거나 아이템이 많으면 DP")
+    void isPreferable_dependsOnItemsAndCapacity() {
+        // given
+        List<KnapsackItem> few = new ArrayList<>();
+        List<KnapsackItem> many = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            KnapsackItem item = item(i, 30 + i, 5);
+            many.add(item);
+            if (i < 16) {
+                few.add(item);
+            }
+        }
+
+        // when & then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(MeetInTheMiddleSolver.isPreferable(few, List.of(), 10_080)).isTrue();
+            softly.assertThat(MeetInTheMiddleSolver.isPreferable(few, List.of(), 240)).isFalse();
+            softly.assertThat(MeetInTheMiddleSolver.isPreferable(many, List.of(), 10_080)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("연동: 1주일 가용 시간의 소규모 카탈로그 추천이 DP 최대 가치와 동일")
+    void finder_dispatchesToMeetInTheMiddle() {
+        // given
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            activities.add(createActivity((long) i, "활동 " + i, 60 * i, Map.of(CapitalType.PHYSICAL, 1 + i % 5)));
+        }
+        OptimalActivityFinder finder = new OptimalActivityFinder();
+        TimeConstraint fullWeek = TimeConstraint.fullWeek();
+
+        // when
+        RecommendationResult result = finder.find(activities, createDefaultPriority(), fullWeek);
+        int expected = finder.prepare(activities, createDefaultPriority()).bestValue(fullWeek.getTotalMinutes());
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.getTotalValue()).isEqualTo(expected);
+            softly.assertThat(result.getTotalMinutes()).isLessThanOrEqualTo(fullWeek.getTotalMinutes());
+            softly.assertThat(finder.getBufferPool().getMissCount()).isZero();
+        });
+    }
+
+    private KnapsackItem item(long id, int duration, int value) {
+        Activity activity = createActivity(id, "활동 " + id, duration, Map.of(CapitalType.PHYSICAL, 1));
+        return new KnapsackItem(duration, value, List.of(new SelectedActivity(activity, value)));
+    }
+}
@@ -11,6 +11,7 @@ import com.mint.habitus.domain.activity.domain.Activity;
 import com.mint.habitus.domain.capital.domain.CapitalType;
 import com.mint.habitus.domain.priority.domain.Priority;
 import com.mint.habitus.domain.priority.domain.PriorityLevel;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -417,4 +418,116 @@ class OptimalActivityFinderTest {
             }
         });
     }
+
+    @Test
+    @DisplayName("DP 상태 재사용: 전역 상태에 사용자 활동을 이어 계산한 결과가 전체 재계산과 동일")
+    void extend_matchesFullSolve() {
+        // given
+        Priority priority = createPriorityWithHighKnowledge();
+        List<Activity> userActivities = List.of(
+                createActivity(101L, "개인 코딩 40분", 40,
+                        Map.of(CapitalType.KNOWLEDGE, 6)),
+                createActivity(102L, "개인 산책 15분", 15,
+                        Map.of(CapitalType.PHYSICAL, 2))
+        );
+        List<Activity> allActivities = new ArrayList<>(activities);
+        allActivities.addAll(userActivities);
+
+        KnapsackTable base = finder.prepare(activities, priority);
+
+        for (int minutes : new int[]{30, 95, 150, 240}) {
+            TimeConstraint timeConstraint = TimeConstraint.of(minutes);
+
+            // when
+            RecommendationResult extended = finder.extend(base, userActivities, priority, timeConstraint);
+            RecommendationResult full = finder.find(allActivities, priority, timeConstraint);
+
+            // then
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(extended.getTotalValue()).isEqualTo(full.getTotalValue());
+                softly.assertThat(extended.getTotalMinutes()).isLessThanOrEqualTo(minutes);
+                softly.assertThat(extended.getSelectedActivities().stream()
+                                .mapToInt(SelectedActivity::getValue)
+                                .sum())
+                        .isEqualTo(extended.getTotalValue());
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("가치 곡선: 한 번의 계산으로 구한 곡선이 가용 시간별 개별 계산과 동일")
+    void curve_matchesIndividualSolves() {
+        // given
+        Priority priority = createDefaultPriority();
+        List<Activity> userActivities = List.of(
+                createActivity(101L, "개인 코딩 40분", 40, Map.of(CapitalType.KNOWLEDGE, 6))
+        );
+        List<Activity> allActivities = new ArrayList<>(activities);
+        allActivities.addAll(userActivities);
+
+        KnapsackTable base = finder.prepare(activities, priority);
+
+        // when
+        ValueCurve curve = finder.curve(base, userActivities, priority, 300);
+        List<ValueCurve.Breakpoint> breakpoints = curve.breakpoints(1_000);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            for (int minutes : new int[]{10, 30, 95, 150, 240, 300}) {
+                int expected = finder.find(allActivities, priority, TimeConstraint.of(minutes)).getTotalValue();
+                softly.assertThat(curve.valueAt(minutes)).isEqualTo(expected);
+            }
+            softly.assertThat(curve.marginalGain(240, 60)).isEqualTo(curve.valueAt(300) - curve.valueAt(240));
+            softly.assertThat(breakpoints.get(0).minutes()).isZero();
+            softly.assertThat(breakpoints.get(breakpoints.size() - 1).value()).isEqualTo(curve.getMaxValue());
+            softly.assertThat(breakpoints).allMatch(point -> curve.valueAt(point.minutes()) == point.value());
+        });
+    }
+
+    @Test
+    @DisplayName("가치 곡선: 지점 수를 줄여도 실제 곡선보다 큰 값을 내지 않음")
+    void curve_thinnedBreakpointsNeverOverstate() {
+        // given
+        List<Activity> many = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            many.add(createActivity((long) i, "활동 " + i, 5 + i, Map.of(CapitalType.PHYSICAL, 1 + i % 5)));
+        }
+        Priority priority = createDefaultPriority();
+        ValueCurve curve = finder.curve(finder.prepare(many, priority), List.of(), priority, 600);
+
+        // when
+        List<ValueCurve.Breakpoint> thinned = curve.breakpoints(10);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(curve.breakpoints(10_000).size()).isGreaterThan(thinned.size());
+            softly.assertThat(thinned.size()).isLessThanOrEqualTo(12);
+            softly.assertThat(thinned.get(thinned.size() - 1).value()).isEqualTo(curve.getMaxValue());
+            softly.assertThat(thinned).allMatch(point -> point.value() <= curve.valueAt(point.minutes()));
+        });
+    }
+
+    @Test
+    @DisplayName("그룹: 같은 그룹의 활동은 최대 하나만 선택")
+    void find_selectsAtMostOnePerGroup() {
+        // given
+        List<Activity> grouped = List.of(
+                createActivity(1L, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)).inGroup("EXERCISE"),
+                createActivity(2L, "운동 60분", 60, Map.of(CapitalType.PHYSICAL, 7)).inGroup("EXERCISE"),
+                createActivity(3L, "운동 90분", 90, Map.of(CapitalType.PHYSICAL, 6)).inGroup("EXERCISE"),
+                createActivity(4L, "명상 20분", 20, Map.of(CapitalType.MENTAL, 3))
+        );
+        Priority priority = createDefaultPriority();
+
+        // when
+        RecommendationResult result = finder.find(grouped, priority, TimeConstraint.of(110));
+
+        // then: 운동 30분 + 60분(110분)이 아닌 운동 60분 + 명상, 운동 90분은 60분에 지배됨
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.getSelectedActivities())
+                    .extracting(selected -> selected.getActivity().getId())
+                    .containsExactlyInAnyOrder(2L, 4L);
+            softly.assertThat(result.getTotalMinutes()).isEqualTo(80);
+        });
+    }
 }
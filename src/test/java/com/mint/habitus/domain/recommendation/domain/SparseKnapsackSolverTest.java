@@ -0,0 +1,159 @@
+package com.mint.habitus.domain.recommendation.domain;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static com.mint.habitus.fixture.TestFixture.createDefaultPriority;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SparseKnapsackSolver 도메인 테스트")
+class SparseKnapsackSolverTest {
+
+    @Test
+    @DisplayName("정확성: 무작위 아이템과 그룹에서 DP와 같은 최대 가치, 용량 이내, 그룹당 최대 하나")
+    void solve_matchesDp() {
+        SplittableRandom random = new SplittableRandom(11L);
+
+        for (int round = 0; round < 30; round++) {
+            // given
+            List<KnapsackItem> items = new ArrayList<>();
+            int itemCount = random.nextInt(1, 40);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(item(round * 100L + i, random.nextInt(1, 9) * 15, random.nextInt(1, 30)));
+            }
+            List<KnapsackGroup> groups = new ArrayList<>();
+            int groupCount = random.nextInt(0, 3);
+            for (int g = 0; g < groupCount; g++) {
+                List<KnapsackItem> options = new ArrayList<>();
+                int optionCount = random.nextInt(2, 4);
+                for (int o = 0; o < optionCount; o++) {
+                    options.add(item(round * 100L + 50 + g * 5 + o, random.nextInt(1, 9) * 15, random.nextInt(1, 30)));
+                }
+                groups.add(new KnapsackGroup("G" + g, options));
+            }
+            int capacity = random.nextInt(1, 3_000);
+
+            // when
+            Optional<List<SelectedActivity>> selected = SparseKnapsackSolver.solve(items, groups, capacity, capacity + 1);
+            int expected = KnapsackTable.solve(items, groups, capacity).bestValue(capacity);
+
+            // then
+            Set<Long> selectedIds = new HashSet<>();
+            selected.orElseThrow().forEach(cur -> selectedIds.add(cur.getActivity().getId()));
+
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(selected.orElseThrow().stream().mapToInt(SelectedActivity::getValue).sum())
+                        .isEqualTo(expected);
+                softly.assertThat(selected.orElseThrow().stream()
+                                .mapToInt(cur -> cur.getActivity().getDurationMinutes())
+                                .sum())
+                        .isLessThanOrEqualTo(capacity);
+                for (KnapsackGroup group : groups) {
+                    softly.assertThat(group.getOptions().stream()
+                                    .filter(option -> selectedIds.contains(option.getMembers().get(0).getActivity().getId()))
+                                    .count())
+                            .isLessThanOrEqualTo(1);
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("희소: 소요 시간 종류가 적으면 아이템이 많아도 상태 수가 작아 1주일 용량에서 계산")
+    void trySolve_fewDistinctDurations_solvesAtFullWeek() {
+        // given: 30/60/90분 200개 - 도달 가능한 시간은 30분 간격 337개 이하
+        SplittableRandom random = new SplittableRandom(5L);
+        List<KnapsackItem> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(item(i, random.nextInt(1, 4) * 30, random.nextInt(1, 20)));
+        }
+        int capacity = TimeConstraint.fullWeek().getTotalMinutes();
+
+        // when
+        Optional<List<SelectedActivity>> selected = SparseKnapsackSolver.trySolve(items, List.of(), capacity);
+        int expected = KnapsackTable.solve(items, capacity).bestValue(capacity);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(selected).isPresent();
+            softly.assertThat(selected.orElseThrow().stream().mapToInt(SelectedActivity::getValue).sum())
+                    .isEqualTo(expected);
+        });
+    }
+
+    @Test
+    @DisplayName("전환: 하루 미만 용량이나 소요 시간이 촘촘한 카탈로그는 시도하지 않고 빈 결과")
+    void trySolve_denseOrShortCapacity_returnsEmpty() {
+        // given
+        List<KnapsackItem> coarse = new ArrayList<>();
+        List<KnapsackItem> fine = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            coarse.add(item(i, 30, i));
+            fine.add(item(100 + i, 7 * i + 3, 2 * i + 1));
+        }
+        int fullWeek = TimeConstraint.fullWeek().getTotalMinutes();
+
+        // when & then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(SparseKnapsackSolver.trySolve(coarse, List.of(), 600)).isEmpty();
+            softly.assertThat(SparseKnapsackSolver.trySolve(fine, List.of(), fullWeek)).isEmpty();
+            softly.assertThat(SparseKnapsackSolver.trySolve(coarse, List.of(), fullWeek)).isPresent();
+        });
+    }
+
+    @Test
+    @DisplayName("전환: 상태 수가 상한을 넘으면 빈 결과")
+    void solve_exceedingStateBudget_returnsEmpty() {
+        // given
+        List<KnapsackItem> items = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            items.add(item(i, 7 * i + 3, 2 * i + 1));
+        }
+
+        // when
+        Optional<List<SelectedActivity>> selected = SparseKnapsackSolver.solve(items, List.of(), 5_000, 50);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> softly.assertThat(selected).isEmpty());
+    }
+
+    @Test
+    @DisplayName("연동: 15분 단위 카탈로그의 1주일 추천은 희소 DP로 계산하며 DP 최대 가치와 동일")
+    void finder_usesSparseModeForCoarseDurations() {
+        // given
+        SplittableRandom random = new SplittableRandom(3L);
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 1; i <= 150; i++) {
+            activities.add(createActivity((long) i, "활동 " + i, random.nextInt(1, 13) * 15,
+                    Map.of(CapitalType.values()[i % CapitalType.values().length], random.nextInt(1, 6))));
+        }
+        OptimalActivityFinder finder = new OptimalActivityFinder();
+        TimeConstraint fullWeek = TimeConstraint.fullWeek();
+
+        // when
+        RecommendationResult result = finder.find(activities, createDefaultPriority(), fullWeek);
+        int expected = finder.prepare(activities, createDefaultPriority()).bestValue(fullWeek.getTotalMinutes());
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.getTotalValue()).isEqualTo(expected);
+            softly.assertThat(result.getTotalMinutes()).isLessThanOrEqualTo(fullWeek.getTotalMinutes());
+            softly.assertThat(finder.getBufferPool().getMissCount()).isZero();
+        });
+    }
+
+    private KnapsackItem item(long id, int duration, int value) {
+        Activity activity = createActivity(id, "활동 " + id, duration, Map.of(CapitalType.PHYSICAL, 1));
+        return new KnapsackItem(duration, value, List.of(new SelectedActivity(activity, value)));
+    }
+}
@@ -0,0 +1,134 @@
+package com.mint.habitus.infrastructure.activity;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.infrastructure.activity.snapshot.CatalogSnapshotStore;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@DisplayName("활동 일괄 등록 테스트 (JDBC 배치)")
+class ActivityBulkImportTest {
+
+    private static final int BATCH_SIZE = 7;
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:activity-import;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve("catalog.bin"),
+                        "habitus.activity-import.batch-size=" + BATCH_SIZE,
+                        // 폴러가 스냅샷을 다시 만들지 않도록
+                        "habitus.catalog.version-poll-interval=PT1H",
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("N건 일괄 등록은 카탈로그 버전을 한 번만 올리고 커밋 후 스냅샷을 무효화")
+    void saveAll_bumpsVersionOnceAndInvalidatesSnapshot() {
+        // given
+        ActivityRepository activityRepository = context.getBean(ActivityRepository.class);
+        CatalogVersionRepository versionRepository = context.getBean(CatalogVersionRepository.class);
+        CatalogSnapshotStore snapshotStore = context.getBean(CatalogSnapshotStore.class);
+
+        activityRepository.save(createActivity(null, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)));
+        long versionBefore = versionRepository.findVersion();
+        activityRepository.findCatalog();
+        boolean snapshotBefore = snapshotStore.current().isPresent();
+
+        // when
+        int written = activityRepository.saveAll(activities(25).iterator());
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(snapshotBefore).isTrue();
+            softly.assertThat(written).isEqualTo(25);
+            softly.assertThat(versionRepository.findVersion()).isEqualTo(versionBefore + 1);
+            softly.assertThat(snapshotStore.current()).isEmpty();
+            softly.assertThat(activityRepository.findCatalog().getActivities()).hasSize(26);
+        });
+    }
+
+    @Test
+    @DisplayName("batchSize 단위로 나누어 JDBC 배치 INSERT")
+    void insert_writesInJdbcBatches() {
+        // given
+        CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate(context.getBean(DataSource.class));
+        ActivityBulkWriter writer = new ActivityBulkWriter(jdbcTemplate, BATCH_SIZE);
+
+        // when
+        int written = writer.insert(activities(25).iterator());
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(written).isEqualTo(25);
+            softly.assertThat(jdbcTemplate.batchSizes).containsExactly(7, 7, 7, 4);
+            softly.assertThat(jdbcTemplate.queryForObject("select count(*) from activity_templates", Integer.class))
+                    .isEqualTo(25);
+        });
+    }
+
+    private List<Activity> activities(int count) {
+        List<Activity> activities = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            activities.add(createActivity(null, "활동 " + i, 10 + i, Map.of(CapitalType.KNOWLEDGE, i)));
+        }
+        return activities;
+    }
+
+    private static class CountingJdbcTemplate extends JdbcTemplate {
+
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        CountingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(
+                String sql,
+                Collection<T> batchArgs,
+                int batchSize,
+                ParameterizedPreparedStatementSetter<T> pss
+        ) {
+            batchSizes.add(batchArgs.size());
+            return super.batchUpdate(sql, batchArgs, batchSize, pss);
+        }
+    }
+}
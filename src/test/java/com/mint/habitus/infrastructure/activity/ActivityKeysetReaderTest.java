@@ -0,0 +1,88 @@
+package com.mint.habitus.infrastructure.activity;
+
+import com.mint.habitus.domain.activity.domain.ActivityBrowseCondition;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(ActivityKeysetReader.class)
+@DisplayName("카탈로그 Keyset 조회 테스트")
+class ActivityKeysetReaderTest {
+
+    @Autowired
+    private ActivityJpaRepository jpaRepository;
+
+    @Autowired
+    private ActivityKeysetReader keysetReader;
+
+    @Test
+    @DisplayName("효과 조건: (효과, id) 순으로 중복/누락 없이 페이지 순회, 사용자 활동 제외")
+    void read_pagesByEffectWithoutGapsOrDuplicates() {
+        // given
+        for (int i = 0; i < 30; i++) {
+            jpaRepository.save(entity(null, "활동 " + i, 10 + i, i % 6));
+        }
+        jpaRepository.save(entity(7L, "사용자 활동", 30, 5));
+
+        List<ActivityEntity> expected = jpaRepository.findByOwnerIdIsNull().stream()
+                .filter(entity -> entity.getKnowledgeEffect() >= 3)
+                .sorted(Comparator.comparing(ActivityEntity::getKnowledgeEffect).thenComparing(ActivityEntity::getId))
+                .toList();
+
+        // when
+        List<ActivityEntity> visited = new ArrayList<>();
+        Integer cursorValue = null;
+        Long cursorId = null;
+        int pages = 0;
+
+        while (true) {
+            List<ActivityEntity> page = keysetReader.read(ActivityBrowseCondition.of(
+                    null, null, CapitalType.KNOWLEDGE, 3, cursorValue, cursorId, 4));
+            pages++;
+
+            boolean hasNext = page.size() > 4;
+            List<ActivityEntity> items = hasNext ? page.subList(0, 4) : page;
+            visited.addAll(items);
+            if (!hasNext) {
+                break;
+            }
+
+            ActivityEntity last = items.get(items.size() - 1);
+            cursorValue = last.getKnowledgeEffect();
+            cursorId = last.getId();
+        }
+
+        // then
+        int totalPages = pages;
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(visited).extracting(ActivityEntity::getId)
+                    .containsExactlyElementsOf(expected.stream().map(ActivityEntity::getId).toList());
+            softly.assertThat(visited).allMatch(entity -> entity.getOwnerId() == null);
+            softly.assertThat(totalPages).isEqualTo((expected.size() + 3) / 4);
+        });
+    }
+
+    private ActivityEntity entity(Long ownerId, String name, int duration, int knowledge) {
+        return ActivityEntity.builder()
+                .ownerId(ownerId)
+                .name(name)
+                .durationMinutes(duration)
+                .cost(0)
+                .physicalEffect(0)
+                .mentalEffect(0)
+                .knowledgeEffect(knowledge)
+                .culturalEffect(0)
+                .linguisticEffect(0)
+                .socialEffect(0)
+                .economicEffect(0)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.mint.habitus.infrastructure.activity;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.infrastructure.activity.snapshot.CatalogSnapshotStore;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("노드 간 카탈로그 버전 동기화 테스트 (H2 하나에 두 컨텍스트)")
+class CatalogVersionSyncTest {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:catalog-lagging-replica;DB_CLOSE_DELAY=-1";
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @AfterEach
+    void tearDown() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    @DisplayName("한 노드의 저장이 다른 노드의 카탈로그에 반영")
+    void save_onOneNode_isVisibleOnOther() throws InterruptedException {
+        // given
+        nodeA = startNode("a");
+        nodeB = startNode("b");
+
+        ActivityRepository repositoryA = nodeA.getBean(ActivityRepository.class);
+        ActivityRepository repositoryB = nodeB.getBean(ActivityRepository.class);
+        long initialVersion = repositoryB.findCatalog().getVersion();
+
+        // when
+        Activity activity = createActivity(null, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4));
+        repositoryA.save(activity);
+
+        // then
+        ActivityCatalog catalog = awaitVersionChange(repositoryB, initialVersion);
+        assertThat(catalog.getVersion()).isGreaterThan(initialVersion);
+        assertThat(catalog.getActivities())
+                .extracting(Activity::getName)
+                .contains("운동 30분");
+    }
+
+    @Test
+    @DisplayName("복제본이 뒤처져도 읽기 전용 트랜잭션 안의 카탈로그 재적재와 버전 조회는 주 데이터소스 기준")
+    void findCatalog_inReadOnlyTransactionWithLaggingReplica_readsPrimary() {
+        // given: 스키마만 복사해 두고 이후 변경은 받지 않는 복제본
+        nodeA = startRoutingNode();
+        DataSource replica = new DriverManagerDataSource(REPLICA_URL);
+        Path script = tempDir.resolve("schema.sql");
+        new JdbcTemplate(nodeA.getBean(DataSource.class)).execute("SCRIPT TO '" + script + "'");
+        new JdbcTemplate(replica).execute("RUNSCRIPT FROM '" + script + "'");
+
+        ActivityRepository activityRepository = nodeA.getBean(ActivityRepository.class);
+        CatalogVersionRepository versionRepository = nodeA.getBean(CatalogVersionRepository.class);
+        CatalogSnapshotStore snapshotStore = nodeA.getBean(CatalogSnapshotStore.class);
+
+        // 저장 커밋 후 스냅샷이 무효화되어 다음 findCatalog가 DB에서 다시 읽음
+        activityRepository.save(createActivity(null, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)));
+        boolean invalidated = snapshotStore.current().isEmpty();
+
+        // when: 추천 서비스처럼 읽기 전용 트랜잭션(복제본) 안에서 호출
+        TransactionTemplate readOnly = new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(nodeA.getBean(DataSource.class));
+        long replicaVersion = readOnly.execute(status -> jdbcTemplate.queryForObject(
+                "select coalesce(max(version), 0) from catalog_versions", Long.class));
+        long version = readOnly.execute(status -> versionRepository.findVersion());
+        ActivityCatalog catalog = readOnly.execute(status -> activityRepository.findCatalog());
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(invalidated).isTrue();
+            softly.assertThat(replicaVersion).isZero();
+            softly.assertThat(version).isEqualTo(1L);
+            softly.assertThat(catalog.getVersion()).isEqualTo(version);
+            softly.assertThat(catalog.getActivities())
+                    .extracting(Activity::getName)
+                    .containsExactly("운동 30분");
+            softly.assertThat(snapshotStore.current().map(ActivityCatalog::getVersion)).contains(version);
+        });
+    }
+
+    private ConfigurableApplicationContext startRoutingNode() {
+        return new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:catalog-primary;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.datasource.routing.enabled=true",
+                        "habitus.datasource.routing.replicas[0].name=lagging",
+                        "habitus.datasource.routing.replicas[0].url=" + REPLICA_URL,
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve("routing.bin"),
+                        // 폴러가 스냅샷을 다시 만들지 않도록
+                        "habitus.catalog.version-poll-interval=PT1H",
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+    }
+
+    private ConfigurableApplicationContext startNode(String name) {
+        return new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:catalog-sync;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve(name + ".bin"),
+                        "habitus.catalog.version-poll-interval=PT0.1S",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+    }
+
+    private ActivityCatalog awaitVersionChange(ActivityRepository repository, long initialVersion)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        ActivityCatalog catalog = repository.findCatalog();
+        while (catalog.getVersion() == initialVersion && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            catalog = repository.findCatalog();
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mint.habitus.infrastructure.activity.snapshot;
+
+import static com.mint.habitus.fixture.TestFixture.createTestActivities;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mint.habitus.domain.activity.domain.Activity;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("CatalogSnapshotCodec 테스트")
+class CatalogSnapshotCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록한 스냅샷을 메모리 매핑으로 동일하게 복원")
+    void writeAndRead_roundTrip() throws IOException {
+        // given
+        Path path = tempDir.resolve("catalog.bin");
+        List<Activity> activities = new ArrayList<>(createTestActivities());
+        activities.set(0, activities.get(0).inGroup("EXERCISE"));
+        ActivityCatalog catalog = ActivityCatalog.of(42L, activities);
+
+        // when
+        CatalogSnapshotCodec.write(path, catalog);
+        ActivityCatalog restored = CatalogSnapshotCodec.read(path);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(restored.getVersion()).isEqualTo(42L);
+            softly.assertThat(restored.size()).isEqualTo(catalog.size());
+
+            for (int i = 0; i < catalog.size(); i++) {
+                Activity expected = catalog.getActivities().get(i);
+                Activity actual = restored.getActivities().get(i);
+
+                softly.assertThat(actual.getId()).isEqualTo(expected.getId());
+                softly.assertThat(actual.getName()).isEqualTo(expected.getName());
+                softly.assertThat(actual.getDescription()).isEqualTo(expected.getDescription());
+                softly.assertThat(actual.getDurationMinutes()).isEqualTo(expected.getDurationMinutes());
+                softly.assertThat(actual.getGroupCode()).isEqualTo(expected.getGroupCode());
+                for (CapitalType type : CapitalType.values()) {
+                    softly.assertThat(actual.getEffectOn(type)).isEqualTo(expected.getEffectOn(type));
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("헤더가 손상된 스냅샷은 거부")
+    void read_rejectsCorruptedFile() throws IOException {
+        // given
+        Path path = tempDir.resolve("broken.bin");
+        Files.write(path, new byte[]{1, 2, 3});
+
+        // when & then
+        assertThatThrownBy(() -> CatalogSnapshotCodec.read(path))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.mint.habitus.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("읽기/쓰기 데이터소스 라우팅 테스트 (H2 두 개 이상을 주/복제본으로 사용)")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String UNREACHABLE_URL = "jdbc:h2:tcp://localhost:1/routing-missing";
+
+    private final List<String> databases = new ArrayList<>();
+
+    private DataSource primary;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing-primary");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(name -> new JdbcTemplate(new DriverManagerDataSource(url(name))).execute("SHUTDOWN"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 데이터소스를 사용")
+    void route_readOnlyToReplica() {
+        // given
+        ReplicaPool pool = new ReplicaPool(List.of(new ReplicaDataSource("r1", database("routing-r1"))));
+        DataSource routing = RoutingDataSourceConfig.route(primary, pool);
+
+        // when
+        String read = query(routing, true);
+        String written = query(routing, false);
+        String outsideTransaction = new JdbcTemplate(routing).queryForObject("select name from node", String.class);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(read).isEqualTo("routing-r1");
+            softly.assertThat(written).isEqualTo("routing-primary");
+            softly.assertThat(outsideTransaction).isEqualTo("routing-primary");
+        });
+    }
+
+    @Test
+    @DisplayName("정상 복제본을 번갈아 사용")
+    void route_roundRobin() {
+        // given
+        ReplicaPool pool = new ReplicaPool(List.of(
+                new ReplicaDataSource("r1", database("routing-r1")),
+                new ReplicaDataSource("r2", database("routing-r2"))
+        ));
+        DataSource routing = RoutingDataSourceConfig.route(primary, pool);
+
+        // when
+        List<String> reads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reads.add(query(routing, true));
+        }
+
+        // then
+        assertThat(reads).containsExactly("routing-r1", "routing-r2", "routing-r1", "routing-r2");
+    }
+
+    @Test
+    @DisplayName("연결에 실패한 복제본은 제외하고 다음 복제본, 모두 실패하면 주 데이터소스에서 읽기")
+    void route_failover() {
+        // given - 열려 있지 않은 포트의 H2 서버는 연결 실패
+        ReplicaDataSource broken = new ReplicaDataSource("broken", new DriverManagerDataSource(UNREACHABLE_URL));
+        ReplicaDataSource healthy = new ReplicaDataSource("r1", database("routing-r1"));
+        DataSource withHealthy = RoutingDataSourceConfig.route(primary, new ReplicaPool(List.of(broken, healthy)));
+
+        ReplicaDataSource alsoBroken = new ReplicaDataSource("broken-2", new DriverManagerDataSource(UNREACHABLE_URL));
+        DataSource onlyBroken = RoutingDataSourceConfig.route(primary, new ReplicaPool(List.of(alsoBroken)));
+
+        // when
+        String failedOver = query(withHealthy, true);
+        String fallback = query(onlyBroken, true);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(failedOver).isEqualTo("routing-r1");
+            softly.assertThat(broken.isHealthy()).isFalse();
+            softly.assertThat(fallback).isEqualTo("routing-primary");
+            softly.assertThat(alsoBroken.isHealthy()).isFalse();
+        });
+    }
+
+    private String query(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from node", String.class));
+    }
+
+    /**
+     * 자기 이름을 담은 node 테이블이 있는 H2 메모리 DB
+     */
+    private DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(url(name));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(64))");
+        jdbcTemplate.update("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        databases.add(name);
+        return dataSource;
+    }
+
+    private static String url(String name) {
+        return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    }
+}
@@ -0,0 +1,124 @@
+package com.mint.habitus.infrastructure.priority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mint.habitus.domain.plan.domain.WeeklyPlan;
+import com.mint.habitus.domain.priority.domain.PriorityProfile;
+import com.mint.habitus.domain.priority.domain.ProfileGroup;
+import com.mint.habitus.infrastructure.plan.WeeklyPlanBatchWriter;
+import com.mint.habitus.infrastructure.plan.WeeklyPlanRepositoryImpl;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({PriorityProfileRepositoryImpl.class, WeeklyPlanRepositoryImpl.class, WeeklyPlanBatchWriter.class})
+@DisplayName("우선순위 프로필 묶음 조회 및 주간 계획 배치 저장 테스트")
+class PriorityProfileRepositoryImplTest {
+
+    @Autowired
+    private PriorityProfileRepositoryImpl profileRepository;
+
+    @Autowired
+    private WeeklyPlanRepositoryImpl planRepository;
+
+    @Test
+    @DisplayName("묶음: (우선순위 코드, 가용 시간)별 사용자 수 집계 및 묶음별 사용자 ID 순회")
+    void findGroups_andPageUserIds() {
+        // given
+        for (long userId = 1; userId <= 7; userId++) {
+            profileRepository.save(profile(userId, "3111111", 600));
+        }
+        profileRepository.save(profile(8L, "3111111", 300));
+        profileRepository.save(profile(9L, "1111111", 600));
+
+        // when
+        List<ProfileGroup> groups = profileRepository.findGroups();
+
+        ProfileGroup largest = new ProfileGroup("3111111", 600, 7);
+        List<Long> visited = new ArrayList<>();
+        long afterUserId = Long.MIN_VALUE;
+        List<Long> page;
+        while (!(page = profileRepository.findUserIds(largest, afterUserId, 3)).isEmpty()) {
+            visited.addAll(page);
+            afterUserId = page.get(page.size() - 1);
+        }
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(groups).containsExactlyInAnyOrder(
+                    new ProfileGroup("3111111", 600, 7),
+                    new ProfileGroup("3111111", 300, 1),
+                    new ProfileGroup("1111111", 600, 1)
+            );
+            softly.assertThat(visited).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        });
+    }
+
+    @Test
+    @DisplayName("주간 계획: 같은 사용자의 계획은 배치 저장 시 대체")
+    void saveAll_replacesExistingPlans() {
+        // given
+        planRepository.saveAll(List.of(plan(1L, 1L, List.of(10L, 11L), 20), plan(2L, 1L, List.of(), 0)));
+
+        // when
+        planRepository.saveAll(List.of(plan(1L, 2L, List.of(12L), 9)));
+
+        // then
+        WeeklyPlan replaced = planRepository.findByUserId(1L).orElseThrow();
+        WeeklyPlan untouched = planRepository.findByUserId(2L).orElseThrow();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(replaced.getCatalogVersion()).isEqualTo(2L);
+            softly.assertThat(replaced.getSelectedActivityIds()).containsExactly(12L);
+            softly.assertThat(replaced.getTotalValue()).isEqualTo(9);
+            softly.assertThat(replaced.isStale(2L)).isFalse();
+            softly.assertThat(untouched.getSelectedActivityIds()).isEmpty();
+            softly.assertThat(untouched.isStale(2L)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("주간 계획: 4,000자를 넘는 활동 ID 목록도 저장")
+    void saveAll_storesLongSelection() {
+        // given: 1,000개 × 최대 7자리 ID
+        List<Long> activityIds = new ArrayList<>();
+        for (long id = 1_000_000; id < 1_001_000; id++) {
+            activityIds.add(id);
+        }
+
+        // when
+        planRepository.saveAll(List.of(plan(1L, 1L, activityIds, 1_000)));
+
+        // then
+        assertThat(planRepository.findByUserId(1L).orElseThrow().getSelectedActivityIds())
+                .containsExactlyElementsOf(activityIds);
+    }
+
+    private PriorityProfile profile(Long userId, String priorityCode, int availableMinutes) {
+        return PriorityProfile.builder()
+                .userId(userId)
+                .priorityCode(priorityCode)
+                .availableMinutes(availableMinutes)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private WeeklyPlan plan(Long userId, long catalogVersion, List<Long> activityIds, int totalValue) {
+        return WeeklyPlan.builder()
+                .userId(userId)
+                .catalogVersion(catalogVersion)
+                .priorityCode("3111111")
+                .availableMinutes(600)
+                .selectedActivityIds(activityIds)
+                .totalValue(totalValue)
+                .totalMinutes(totalValue * 10)
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+}
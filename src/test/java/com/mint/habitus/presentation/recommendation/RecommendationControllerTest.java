@@ -0,0 +1,234 @@
+package com.mint.habitus.presentation.recommendation;
+
+import static com.mint.habitus.fixture.TestFixture.createActivity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mint.habitus.HabitusApplication;
+import com.mint.habitus.application.history.RecommendationHistoryRecorder;
+import com.mint.habitus.application.recommendation.ActivityRecommendationService;
+import com.mint.habitus.application.recommendation.cache.CatalogDpStateCache;
+import com.mint.habitus.application.recommendation.flight.RecommendationSingleFlight;
+import com.mint.habitus.domain.activity.domain.ActivityCatalog;
+import com.mint.habitus.domain.activity.domain.ActivityRepository;
+import com.mint.habitus.domain.capital.domain.CapitalType;
+import com.mint.habitus.domain.recommendation.domain.BalancedActivityFinder;
+import com.mint.habitus.domain.recommendation.domain.CalendarActivityPlanner;
+import com.mint.habitus.domain.recommendation.domain.HorizonPlanner;
+import com.mint.habitus.domain.recommendation.domain.OptimalActivityFinder;
+import com.mint.habitus.presentation.recommendation.encoding.RecommendationCborHttpMessageConverter;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayName("추천 API ETag 테스트")
+class RecommendationControllerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        context = new SpringApplicationBuilder(HabitusApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:recommendation-etag;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "habitus.catalog.snapshot.path=" + tempDir.resolve("catalog.bin"),
+                        "habitus.plan-refresh.enabled=false",
+                        "habitus.warmup.enabled=false"
+                )
+                .run();
+        mockMvc = standalone(context.getBean(ActivityRecommendationService.class));
+
+        context.getBean(ActivityRepository.class)
+                .save(createActivity(null, "운동 30분", 30, Map.of(CapitalType.PHYSICAL, 4)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 본문 없이 304")
+    void getWeekly_matchingETag_returnsNotModified() throws Exception {
+        // given
+        String eTag = perform(weekly(600, "1111111")).getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse response = perform(weekly(600, "1111111")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(eTag).isNotBlank();
+            softly.assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+            softly.assertThat(response.getContentAsByteArray()).isEmpty();
+            softly.assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+        });
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 새 ETag로 다시 계산")
+    void getWeekly_catalogVersionBump_changesETag() throws Exception {
+        // given
+        String before = perform(weekly(600, "1111111")).getHeader(HttpHeaders.ETAG);
+
+        // when
+        context.getBean(ActivityRepository.class)
+                .save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+        MockHttpServletResponse response = perform(weekly(600, "1111111")
+                .header(HttpHeaders.IF_NONE_MATCH, before));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(before);
+            softly.assertThat(response.getContentAsByteArray()).isNotEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("가용 시간이나 우선순위가 다르면 ETag도 다름")
+    void getWeekly_differentInputs_differentETags() throws Exception {
+        // when
+        String base = perform(weekly(600, "1111111")).getHeader(HttpHeaders.ETAG);
+        String otherMinutes = perform(weekly(900, "1111111")).getHeader(HttpHeaders.ETAG);
+        String otherPriority = perform(weekly(600, "3111111")).getHeader(HttpHeaders.ETAG);
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(otherMinutes).isNotEqualTo(base);
+            softly.assertThat(otherPriority).isNotEqualTo(base);
+            softly.assertThat(otherPriority).isNotEqualTo(otherMinutes);
+        });
+    }
+
+    @Test
+    @DisplayName("Accept의 q 값이 높은 CBOR를 선택하면 CBOR ETag")
+    void getWeekly_acceptQualityValues_selectsRepresentationETag() throws Exception {
+        // given
+        String jsonETag = perform(weekly(600, "1111111")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)).getHeader(HttpHeaders.ETAG);
+
+        // when
+        MockHttpServletResponse cborPreferred = perform(weekly(600, "1111111")
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.1, application/cbor"));
+        MockHttpServletResponse jsonPreferred = perform(weekly(600, "1111111")
+                .header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json"));
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(cborPreferred.getContentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE);
+            softly.assertThat(cborPreferred.getHeader(HttpHeaders.ETAG))
+                    .isEqualTo(jsonETag.substring(0, jsonETag.length() - 1) + "-cbor\"");
+            softly.assertThat(jsonPreferred.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+            softly.assertThat(jsonPreferred.getHeader(HttpHeaders.ETAG)).isEqualTo(jsonETag);
+        });
+    }
+
+    @Test
+    @DisplayName("ETag용 카탈로그를 읽은 직후 스냅샷이 무효화되어도 본문은 ETag와 같은 버전으로 계산")
+    void getWeekly_snapshotInvalidatedAfterCatalogRead_bodyMatchesETagVersion() throws Exception {
+        // given
+        ActivityRepository activityRepository = context.getBean(ActivityRepository.class);
+        long before = activityRepository.findCatalog().getVersion();
+        MockMvc changing = standalone(new CatalogChangingService(context));
+
+        // when
+        MockHttpServletResponse first = changing.perform(weekly(600, "1111111")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)).andReturn().getResponse();
+        long after = activityRepository.findCatalog().getVersion();
+        MockHttpServletResponse second = changing.perform(weekly(600, "1111111")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG))).andReturn().getResponse();
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(after).isGreaterThan(before);
+            softly.assertThat(first.getHeader(HttpHeaders.ETAG)).startsWith("\"" + before + "-");
+            softly.assertThat(activityCount(first)).isEqualTo(1);
+            softly.assertThat(second.getStatus()).isEqualTo(HttpStatus.OK.value());
+            softly.assertThat(second.getHeader(HttpHeaders.ETAG)).startsWith("\"" + after + "-");
+            softly.assertThat(activityCount(second)).isEqualTo(2);
+        });
+    }
+
+    private MockMvc standalone(ActivityRecommendationService service) {
+        return MockMvcBuilders.standaloneSetup(new RecommendationController(service))
+                .setMessageConverters(
+                        new RecommendationCborHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter()
+                )
+                .build();
+    }
+
+    private int activityCount(MockHttpServletResponse response) throws Exception {
+        return new ObjectMapper().readTree(response.getContentAsByteArray()).get("activityCount").asInt();
+    }
+
+    private MockHttpServletRequestBuilder weekly(int availableMinutes, String priorityCode) {
+        return get("/api/activities/recommendation")
+                .param("availableMinutes", String.valueOf(availableMinutes))
+                .param("priorityCode", priorityCode);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    /**
+     * 요청의 카탈로그를 읽은 직후 다른 요청이 전역 활동을 추가한 상황 (첫 호출에만)
+     */
+    private static class CatalogChangingService extends ActivityRecommendationService {
+
+        private final ActivityRepository activityRepository;
+        private final AtomicBoolean pending = new AtomicBoolean(true);
+
+        CatalogChangingService(ConfigurableApplicationContext context) {
+            super(
+                    context.getBean(ActivityRepository.class),
+                    context.getBean(OptimalActivityFinder.class),
+                    context.getBean(RecommendationHistoryRecorder.class),
+                    context.getBean(RecommendationSingleFlight.class),
+                    context.getBean(CatalogDpStateCache.class),
+                    context.getBean(CalendarActivityPlanner.class),
+                    context.getBean(BalancedActivityFinder.class),
+                    context.getBean(HorizonPlanner.class)
+            );
+            this.activityRepository = context.getBean(ActivityRepository.class);
+        }
+
+        @Override
+        public ActivityCatalog findCatalog() {
+            ActivityCatalog catalog = super.findCatalog();
+            if (pending.compareAndSet(true, false)) {
+                activityRepository.save(createActivity(null, "독서 60분", 60, Map.of(CapitalType.KNOWLEDGE, 5)));
+            }
+            return catalog;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mint.habitus.presentation.recommendation.encoding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse;
+import com.mint.habitus.application.recommendation.dto.RecommendationResponse.RecommendedActivity;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("추천 응답 CBOR 인코딩 테스트")
+class RecommendationCborHttpMessageConverterTest {
+
+    private final ObjectMapper cbor = RecommendationCborHttpMessageConverter.compactMapper();
+
+    @Test
+    @DisplayName("자본별 맵은 CapitalType 순서 배열로, 나머지 필드는 그대로 기록")
+    void compactMapper_writesCapitalsPositionally() throws Exception {
+        // given
+        RecommendationResponse response = RecommendationResponse.builder()
+                .totalValue(9)
+                .totalCapitalGain(Map.of("PHYSICAL", 4, "ECONOMIC", 1))
+                .selectedActivities(List.of(RecommendedActivity.builder()
+                        .id(1L)
+                        .name("운동 30분")
+                        .originalEffects(Map.of("MENTAL", 2))
+                        .weightedEffects(Map.of("MENTAL", 6))
+                        .build()))
+                .build();
+
+        // when
+        byte[] encoded = cbor.writeValueAsBytes(response);
+        JsonNode tree = cbor.readTree(encoded);
+        int jsonLength = JsonMapper.builder().build().writeValueAsBytes(response).length;
+
+        // then
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(tree.get("totalValue").asInt()).isEqualTo(9);
+            softly.assertThat(tree.get("totalCapitalGain").toString()).isEqualTo("[4,0,0,0,0,0,1]");
+
+            JsonNode activity = tree.get("selectedActivities").get(0);
+            softly.assertThat(activity.get("name").asText()).isEqualTo("운동 30분");
+            softly.assertThat(activity.get("originalEffects").toString()).isEqualTo("[0,2,0,0,0,0,0]");
+            softly.assertThat(activity.get("weightedEffects").toString()).isEqualTo("[0,6,0,0,0,0,0]");
+
+            softly.assertThat(encoded.length).isLessThan(jsonLength);
+        });
+    }
+}